@@ -1,7 +1,9 @@
 package com.example.HackMateBackend.config;
 
+import com.example.HackMateBackend.services.interfaces.HackathonService;
 import com.example.HackMateBackend.services.interfaces.JoinRequestService;
 import com.example.HackMateBackend.services.interfaces.NotificationService;
+import com.example.HackMateBackend.services.interfaces.RecommendationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -16,6 +18,38 @@ public class ScheduledTasks {
 
     private final JoinRequestService joinRequestService;
     private final NotificationService notificationService;
+    private final HackathonService hackathonService;
+    private final RecommendationService recommendationService;
+
+    // Run every 30 seconds to write buffered hackathon views to the database
+    @Scheduled(fixedRate = 30000) // 30 seconds = 30000 ms
+    public void flushHackathonViewCounts() {
+        try {
+            hackathonService.flushViewCounts();
+        } catch (Exception e) {
+            log.error("Error in flushing hackathon view counts", e);
+        }
+    }
+
+    // Run every minute to move hackathons between urgency buckets as their deadlines approach
+    @Scheduled(fixedRate = 60000) // 1 minute = 60000 ms
+    public void refreshHackathonUrgencyLevels() {
+        try {
+            hackathonService.refreshUrgencyLevels();
+        } catch (Exception e) {
+            log.error("Error in refreshing hackathon urgency levels", e);
+        }
+    }
+
+    // Run every minute to recompute the recommendations of hackathons whose teams or candidates changed
+    @Scheduled(fixedRate = 60000) // 1 minute = 60000 ms
+    public void refreshRecommendations() {
+        try {
+            recommendationService.refreshRecommendations();
+        } catch (Exception e) {
+            log.error("Error in refreshing recommendations", e);
+        }
+    }
 
     // Run every hour to expire old join requests
     @Scheduled(fixedRate = 3600000) // 1 hour = 3600000 ms
@@ -39,14 +73,36 @@ public class ScheduledTasks {
         }
     }
 
-    // Run every 6 hours to send deadline reminders (mock implementation)
-    @Scheduled(fixedRate = 21600000) // 6 hours = 21600000 ms
+    // Run daily to move long-expired hackathons out of the hot table
+    @Scheduled(cron = "0 30 3 * * ?") // Run at 3:30 AM daily
+    public void archiveExpiredHackathons() {
+        log.info("Running scheduled task: archiving expired hackathons");
+        try {
+            int archived = hackathonService.archiveExpiredHackathons();
+            log.info("Archived {} expired hackathons", archived);
+        } catch (Exception e) {
+            log.error("Error in archiving expired hackathons", e);
+        }
+    }
+
+    // Run daily to drop the recommendations of past hackathons and pick up anything a refresh missed
+    @Scheduled(cron = "0 0 4 * * ?") // Run at 4 AM daily
+    public void rebuildRecommendations() {
+        log.info("Running scheduled task: rebuilding recommendations");
+        try {
+            recommendationService.rebuildRecommendations();
+        } catch (Exception e) {
+            log.error("Error in rebuilding recommendations", e);
+        }
+    }
+
+    // Run every 15 minutes to send deadline reminders as hackathons enter the reminder windows
+    @Scheduled(fixedRate = 900000) // 15 minutes = 900000 ms
     public void sendDeadlineReminders() {
         log.info("Running scheduled task: sending deadline reminders");
         try {
-            // In a real implementation, you'd fetch hackathons with approaching deadlines
-            // and send notifications to registered users
-            log.info("Deadline reminders task completed");
+            int sent = notificationService.sendDeadlineReminders();
+            log.info("Deadline reminders task completed, sent {} reminders", sent);
         } catch (Exception e) {
             log.error("Error in sending deadline reminders", e);
         }
@@ -3,15 +3,27 @@ package com.example.HackMateBackend.controllers;
 import com.example.HackMateBackend.dtos.hackathon.*;
 import com.example.HackMateBackend.services.implementations.CustomUserDetailService.UserPrincipal;
 import com.example.HackMateBackend.services.interfaces.HackathonService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/hackathons")
@@ -19,6 +31,10 @@ import org.springframework.web.bind.annotation.*;
 public class HackathonController {
 
     private final HackathonService hackathonService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.http-cache.feed-max-age-seconds:30}")
+    private long feedMaxAgeSeconds;
 
     // === Public Endpoints (No login required) ===
 
@@ -26,22 +42,48 @@ public class HackathonController {
     public ResponseEntity<HackathonListResponseDto> getPublicFeed(
             @RequestParam(defaultValue = "") String search,
             @RequestParam(defaultValue = "false") boolean showExpired,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "false") boolean matchAllTags,
+            @RequestParam(required = false) String urgencyLevel,
             @RequestParam(defaultValue = "deadline") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDirection,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
 
         HackathonFilterRequestDto filterRequest = new HackathonFilterRequestDto();
         filterRequest.setSearch(search);
         filterRequest.setShowExpired(showExpired);
+        filterRequest.setTags(tags);
+        filterRequest.setMatchAllTags(matchAllTags);
+        filterRequest.setUrgencyLevel(urgencyLevel);
         filterRequest.setSortBy(sortBy);
         filterRequest.setSortDirection(sortDirection);
         filterRequest.setPage(page);
         filterRequest.setSize(size);
+        filterRequest.setCursor(cursor);
 
         try {
-            HackathonListResponseDto response = hackathonService.getPublicHackathonFeed(filterRequest);
-            return ResponseEntity.ok(response);
+            Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+
+            // Anonymous pages are the same for everyone and may be reused briefly; personalised ones must revalidate
+            CacheControl cacheControl = userId == null
+                    ? CacheControl.maxAge(feedMaxAgeSeconds, TimeUnit.SECONDS).cachePublic()
+                    : CacheControl.noCache().cachePrivate();
+            Optional<String> eTag = hackathonService.getFeedETag(filterRequest, userId);
+            if (eTag.isPresent() && matchesETag(ifNoneMatch, eTag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag.get()).cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION).build();
+            }
+
+            HackathonListResponseDto response = hackathonService.getPublicHackathonFeed(filterRequest, userId);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION);
+            eTag.ifPresent(builder::eTag);
+            return builder.body(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
@@ -50,12 +92,25 @@ public class HackathonController {
     @GetMapping("/{id}")
     public ResponseEntity<HackathonDetailsResponseDto> getHackathonDetails(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
 
         try {
             Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+            CacheControl cacheControl = userId == null ? CacheControl.noCache() : CacheControl.noCache().cachePrivate();
+
+            // A revalidated visit still counts as a view
+            Optional<String> eTag = hackathonService.getHackathonDetailsETag(id, userId);
+            if (eTag.isPresent() && matchesETag(ifNoneMatch, eTag.get())) {
+                hackathonService.incrementViewCount(id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag.get()).cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION).build();
+            }
+
             HackathonDetailsResponseDto response = hackathonService.getHackathonDetails(id, userId);
-            return ResponseEntity.ok(response);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION);
+            eTag.ifPresent(builder::eTag);
+            return builder.body(response);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -151,15 +206,40 @@ public class HackathonController {
 
     @GetMapping("/pending")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<HackathonListResponseDto> getPendingHackathons() {
+    public ResponseEntity<HackathonListResponseDto> getPendingHackathons(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
         try {
-            HackathonListResponseDto response = hackathonService.getPendingHackathons();
+            HackathonListResponseDto response = hackathonService.getPendingHackathons(page, size, cursor);
             return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    @PostMapping("/approve")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BatchReviewResponseDto> approveHackathons(
+            @Valid @RequestBody BatchReviewRequestDto request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        BatchReviewResponseDto response = hackathonService.approveHackathons(request.getHackathonIds(), userPrincipal.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/reject")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BatchReviewResponseDto> rejectHackathons(
+            @Valid @RequestBody BatchReviewRequestDto request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        BatchReviewResponseDto response = hackathonService.rejectHackathons(request.getHackathonIds(), userPrincipal.getId());
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/approve/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<CreateHackathonResponseDto> approveHackathon(
@@ -207,8 +287,53 @@ public class HackathonController {
         }
     }
 
+    // Results are streamed as NDJSON in completion order, one {"index", "result"} object per line
+    @PostMapping(value = "/ai-extract/bulk", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('USER') or hasRole('CREATOR')")
+    public ResponseEntity<StreamingResponseBody> extractHackathonDataBulk(
+            @Valid @RequestBody BulkExtractionRequestDto request) {
+
+        StreamingResponseBody body = outputStream -> hackathonService.extractHackathonDataBulk(
+                request.getMessages(), (index, result) -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(new BulkExtractionResultDto(index, result)));
+                        outputStream.write('\n');
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("Hackathon service is running");
     }
-}
\ No newline at end of file
+
+    // === Helper Methods ===
+
+    // If-None-Match uses weak comparison: W/ prefixes are ignored and "*" matches any current representation
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        String opaqueTag = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,14 +2,31 @@ package com.example.HackMateBackend.controllers;
 
 import com.example.HackMateBackend.dtos.team.*;
 import com.example.HackMateBackend.services.implementations.CustomUserDetailService.UserPrincipal;
+import com.example.HackMateBackend.services.interfaces.RecommendationService;
 import com.example.HackMateBackend.services.interfaces.TeamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/teams")
@@ -18,6 +35,16 @@ import org.springframework.web.bind.annotation.*;
 public class TeamController {
 
     private final TeamService teamService;
+    private final RecommendationService recommendationService;
+    private final ObjectMapper objectMapper;
+
+    private static final DateTimeFormatter CSV_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] ROSTER_CSV_HEADER = {
+            "hackathon", "team_id", "team_name", "team_size", "max_size", "member_role", "assigned_role",
+            "joined_at", "user_id", "full_name", "college", "year", "main_skill", "skills",
+            "email", "github", "linkedin"
+    };
 
     @PostMapping
     public ResponseEntity<CreateTeamResponseDto> createTeam(
@@ -132,20 +159,63 @@ public class TeamController {
         }
     }
 
+    // Validation errors surface as a normal JSON error before the first byte of the file is written
     @PostMapping("/export")
-    public ResponseEntity<TeamExportResponseDto> exportTeamData(
+    public ResponseEntity<StreamingResponseBody> exportTeamData(
             @Valid @RequestBody TeamExportRequestDto request,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        TeamExportDto export = teamService.prepareTeamExport(request, userPrincipal.getId());
+        return streamExport(export, gzip);
+    }
+
+    // Every team of the hackathon, followed by the registrants still without a team
+    @GetMapping("/export/hackathon/{hackathonId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportHackathonRosters(
+            @PathVariable Long hackathonId,
+            @RequestParam(defaultValue = "CSV") String format,
+            @RequestParam(defaultValue = "true") boolean includeContactInfo,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        TeamExportDto export = teamService.prepareHackathonExport(
+                hackathonId, format, includeContactInfo, userPrincipal.getId());
+        return streamExport(export, gzip);
+    }
+
+    @GetMapping("/recommended")
+    public ResponseEntity<TeamRecommendationsResponseDto> getRecommendedTeams(
+            @RequestParam Long hackathonId,
+            @RequestParam(defaultValue = "10") int limit,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
 
         try {
-            TeamExportResponseDto response = teamService.exportTeamData(request, userPrincipal.getId());
+            TeamRecommendationsResponseDto response =
+                    recommendationService.recommendTeams(hackathonId, userPrincipal.getId(), limit);
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                    .body(new TeamExportResponseDto(false, e.getMessage(), null, null, null, null));
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(new TeamExportResponseDto(false, "Internal server error", null, null, null, null));
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/{teamId}/candidates")
+    public ResponseEntity<CandidateRecommendationsResponseDto> getRecommendedCandidates(
+            @PathVariable Long teamId,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        try {
+            CandidateRecommendationsResponseDto response =
+                    recommendationService.recommendCandidates(teamId, userPrincipal.getId(), limit);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
         }
     }
 
@@ -153,4 +223,85 @@ public class TeamController {
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("Team service is running");
     }
-}
\ No newline at end of file
+
+    // === Helper Methods ===
+
+    private ResponseEntity<StreamingResponseBody> streamExport(TeamExportDto export, boolean gzip) {
+        boolean csv = "CSV".equals(export.getFileFormat());
+        String fileName = gzip ? export.getFileName() + ".gz" : export.getFileName();
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+            // Closing finishes the gzip trailer as well, and releases the deflater when the export fails midway
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8))) {
+                if (csv) {
+                    writeCsvLine(writer, ROSTER_CSV_HEADER);
+                }
+                teamService.streamRoster(export, row -> {
+                    try {
+                        if (csv) {
+                            writeCsvLine(writer, toCsvValues(row));
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(row));
+                            writer.write('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : csv ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType("application/x-ndjson");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(contentType)
+                .body(body);
+    }
+
+    private static String[] toCsvValues(TeamRosterRowDto row) {
+        return new String[]{
+                row.getHackathonTitle(),
+                Objects.toString(row.getTeamId(), null),
+                row.getTeamName(),
+                Objects.toString(row.getCurrentSize(), null),
+                Objects.toString(row.getMaxSize(), null),
+                row.getMemberRole(),
+                row.getAssignedRole(),
+                row.getJoinedAt() != null ? row.getJoinedAt().format(CSV_DATE_TIME) : null,
+                Objects.toString(row.getUserId(), null),
+                row.getFullName(),
+                row.getCollege(),
+                row.getYear(),
+                row.getMainSkill(),
+                String.join(";", row.getSkills()),
+                row.getEmail(),
+                row.getGithubProfile(),
+                row.getLinkedinProfile()
+        };
+    }
+
+    // RFC 4180: fields holding a separator, quote or line break are quoted, with quotes doubled
+    private static void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
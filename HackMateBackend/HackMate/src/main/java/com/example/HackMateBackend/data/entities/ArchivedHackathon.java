@@ -0,0 +1,136 @@
+package com.example.HackMateBackend.data.entities;
+
+import com.example.HackMateBackend.data.enums.Status;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Read-only copy of a hackathon moved out of the hot table after its deadline; rows are written by the archival job in SQL
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "archived_hackathons", indexes = {
+        @Index(name = "idx_archived_hackathons_deadline", columnList = "deadline")
+})
+public class ArchivedHackathon {
+
+    @Id
+    private Long id;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted = false;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "registration_link", nullable = false)
+    private String registrationLink;
+
+    @Column(name = "deadline", nullable = false)
+    private LocalDateTime deadline;
+
+    @Column(name = "poster_url")
+    private String posterUrl;
+
+    @ElementCollection
+    @CollectionTable(name = "archived_hackathon_tags", joinColumns = @JoinColumn(name = "hackathon_id"))
+    @Column(name = "tags")
+    private List<String> tags = new ArrayList<>();
+
+    @Column(name = "organizer")
+    private String organizer;
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "prize_pool")
+    private String prizePool;
+
+    @Column(name = "event_start_date")
+    private LocalDateTime eventStartDate;
+
+    @Column(name = "event_end_date")
+    private LocalDateTime eventEndDate;
+
+    @Column(name = "max_team_size")
+    private Integer maxTeamSize;
+
+    @Column(name = "min_team_size")
+    private Integer minTeamSize;
+
+    @Column(name = "contact_email")
+    private String contactEmail;
+
+    @Column(name = "original_message", columnDefinition = "TEXT")
+    private String originalMessage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount = 0L;
+
+    @Column(name = "registration_count", nullable = false)
+    private Long registrationCount = 0L;
+
+    @Column(name = "approved_at")
+    private LocalDateTime approvedAt;
+
+    @Column(name = "approved_by")
+    private Long approvedBy;
+
+    @Column(name = "team_count", nullable = false)
+    private Long teamCount = 0L;
+
+    // Plain id, archived rows keep no foreign keys into the hot tables
+    @Column(name = "posted_by", nullable = false)
+    private Long postedById;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Detached Hackathon view of this row so list and details conversion can be shared
+    public Hackathon toHackathon(User postedBy) {
+        Hackathon hackathon = new Hackathon();
+        hackathon.setId(id);
+        hackathon.setCreatedAt(createdAt);
+        hackathon.setUpdatedAt(updatedAt);
+        hackathon.setTitle(title);
+        hackathon.setDescription(description);
+        hackathon.setRegistrationLink(registrationLink);
+        hackathon.setDeadline(deadline);
+        hackathon.setPosterUrl(posterUrl);
+        hackathon.setOrganizer(organizer);
+        hackathon.setLocation(location);
+        hackathon.setPrizePool(prizePool);
+        hackathon.setEventStartDate(eventStartDate);
+        hackathon.setEventEndDate(eventEndDate);
+        hackathon.setMaxTeamSize(maxTeamSize);
+        hackathon.setMinTeamSize(minTeamSize);
+        hackathon.setContactEmail(contactEmail);
+        hackathon.setStatus(status);
+        hackathon.setViewCount(viewCount);
+        hackathon.setRegistrationCount(registrationCount);
+        hackathon.setApprovedAt(approvedAt);
+        hackathon.setApprovedBy(approvedBy);
+        hackathon.setTeamCount(teamCount);
+        hackathon.setPostedBy(postedBy);
+        return hackathon;
+    }
+}
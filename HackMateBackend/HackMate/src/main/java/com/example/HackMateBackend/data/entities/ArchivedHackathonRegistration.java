@@ -0,0 +1,42 @@
+package com.example.HackMateBackend.data.entities;
+
+import com.example.HackMateBackend.data.enums.RegistrationStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Registrations and stars of archived hackathons, moved together with them
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "archived_hackathon_registrations", indexes = {
+        @Index(name = "idx_archived_registrations_user", columnList = "user_id, hackathon_id")
+})
+public class ArchivedHackathonRegistration {
+
+    @Id
+    private Long id;
+
+    @Column(name = "hackathon_id", nullable = false)
+    private Long hackathonId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private RegistrationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted = false;
+}
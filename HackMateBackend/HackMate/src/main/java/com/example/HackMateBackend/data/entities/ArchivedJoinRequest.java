@@ -0,0 +1,69 @@
+package com.example.HackMateBackend.data.entities;
+
+import com.example.HackMateBackend.data.enums.Status;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Join requests of archived teams, moved together with them
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "archived_join_requests", indexes = {
+        @Index(name = "idx_archived_join_requests_requester", columnList = "requester_id, created_at")
+})
+public class ArchivedJoinRequest {
+
+    @Id
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "requester_id", nullable = false)
+    private Long requesterId;
+
+    @Column(name = "requested_role", nullable = false)
+    private String requestedRole;
+
+    @ElementCollection
+    @BatchSize(size = 50)
+    @CollectionTable(name = "archived_join_request_skills", joinColumns = @JoinColumn(name = "join_request_id"))
+    @Column(name = "skill")
+    private List<String> userSkills = new ArrayList<>();
+
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "response_message")
+    private String responseMessage;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "processed_by")
+    private Long processedBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted = false;
+}
@@ -0,0 +1,117 @@
+package com.example.HackMateBackend.data.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Teams of archived hackathons, moved together with them by the archival job in SQL
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "archived_teams", indexes = {
+        @Index(name = "idx_archived_teams_hackathon", columnList = "hackathon_id")
+})
+public class ArchivedTeam {
+
+    @Id
+    private Long id;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted = false;
+
+    @Column(name = "team_name", nullable = false)
+    private String teamName;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Column(name = "max_size", nullable = false)
+    private int maxSize;
+
+    @Column(name = "current_size", nullable = false)
+    private int currentSize;
+
+    @ElementCollection
+    @BatchSize(size = 50)
+    @CollectionTable(name = "archived_team_skills_needed", joinColumns = @JoinColumn(name = "team_id"))
+    @Column(name = "skill")
+    private List<String> skillsNeeded = new ArrayList<>();
+
+    @ElementCollection
+    @BatchSize(size = 50)
+    @CollectionTable(name = "archived_team_skills_filled", joinColumns = @JoinColumn(name = "team_id"))
+    @Column(name = "skill")
+    private List<String> skillsFilled = new ArrayList<>();
+
+    @Column(name = "contact_email")
+    private String contactEmail;
+
+    @Column(name = "contact_phone")
+    private String contactPhone;
+
+    @Column(name = "discord_server")
+    private String discordServer;
+
+    @Column(name = "whatsapp_group")
+    private String whatsappGroup;
+
+    @Column(name = "linkedin_group")
+    private String linkedinGroup;
+
+    @Column(name = "external_group_link")
+    private String externalGroupLink;
+
+    @Column(name = "is_public", nullable = false)
+    private boolean isPublic = true;
+
+    @Column(name = "is_full", nullable = false)
+    private boolean isFull = false;
+
+    @Column(name = "is_active", nullable = false)
+    private boolean isActive = true;
+
+    // Plain ids, archived rows keep no foreign keys into the hot tables
+    @Column(name = "hackathon_id", nullable = false)
+    private Long hackathonId;
+
+    @Column(name = "leader_id", nullable = false)
+    private Long leaderId;
+
+    // Detached Team view of this row so list conversion can be shared; the hackathon is left unset
+    public Team toTeam(User leader) {
+        Team team = new Team();
+        team.setId(id);
+        team.setCreatedAt(createdAt);
+        team.setUpdatedAt(updatedAt);
+        team.setTeamName(teamName);
+        team.setDescription(description);
+        team.setMaxSize(maxSize);
+        team.setCurrentSize(currentSize);
+        team.setSkillsNeeded(new ArrayList<>(skillsNeeded));
+        team.setSkillsFilled(new ArrayList<>(skillsFilled));
+        team.setContactEmail(contactEmail);
+        team.setContactPhone(contactPhone);
+        team.setDiscordServer(discordServer);
+        team.setWhatsappGroup(whatsappGroup);
+        team.setLinkedinGroup(linkedinGroup);
+        team.setExternalGroupLink(externalGroupLink);
+        team.setPublic(isPublic);
+        team.setFull(isFull);
+        team.setActive(isActive);
+        team.setLeader(leader);
+        return team;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.HackMateBackend.data.entities;
+
+import com.example.HackMateBackend.data.enums.TeamRole;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Members of archived teams, moved together with them
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "archived_team_members", indexes = {
+        @Index(name = "idx_archived_team_members_user", columnList = "user_id, is_active")
+})
+public class ArchivedTeamMember {
+
+    @Id
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false)
+    private TeamRole role;
+
+    @Column(name = "assigned_role")
+    private String assignedRole;
+
+    @Column(name = "is_active", nullable = false)
+    private boolean active = true;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted = false;
+}
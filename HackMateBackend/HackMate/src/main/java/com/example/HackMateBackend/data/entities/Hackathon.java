@@ -1,11 +1,13 @@
 package com.example.HackMateBackend.data.entities;
 
 import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.data.enums.UrgencyLevel;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.hibernate.annotations.Collate;
+import org.hibernate.annotations.Formula;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,12 +20,18 @@ import java.util.List;
 @Table(name = "hackathons")
 public class Hackathon extends BaseEntity{
 
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 300;
+
     @Column(name = "title",nullable = false,length = 200)
     private String title;
 
     @Column(name = "description",columnDefinition = "TEXT")
     private String description;
 
+    // What list views read instead of the full TEXT column
+    @Formula("SUBSTRING(description, 1, " + DESCRIPTION_PREVIEW_LENGTH + ")")
+    private String descriptionPreview;
+
     @Column(name = "registration_link",nullable = false)
     private String registrationLink;
 
@@ -64,9 +72,18 @@ public class Hackathon extends BaseEntity{
 
 
     //won't be displayed but for later ai use
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "original_message", columnDefinition = "TEXT")
     private String originalMessage;
 
+    // SimHash of the announcement text, null when it is too short to fingerprint
+    @Column(name = "content_fingerprint")
+    private Long contentFingerprint;
+
+    // Set on submissions that looked like an already pending or approved hackathon
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private Status status = Status.PENDING;
@@ -118,14 +135,9 @@ public class Hackathon extends BaseEntity{
         return LocalDateTime.now().isAfter(this.deadline);
     }
 
+    // Computed on the spot; list views read the precomputed level from HackathonUrgencyIndex instead
     public String getUrgencyLevel() {
-        LocalDateTime now = LocalDateTime.now();
-        long hoursUntilDeadline = java.time.Duration.between(now, deadline).toHours();
-
-        if (hoursUntilDeadline <= 24) return "URGENT";
-        if (hoursUntilDeadline <= 72) return "HIGH";
-        if (hoursUntilDeadline <= 168) return "MEDIUM";
-        return "LOW";
+        return UrgencyLevel.of(deadline, LocalDateTime.now()).name();
     }
 
 
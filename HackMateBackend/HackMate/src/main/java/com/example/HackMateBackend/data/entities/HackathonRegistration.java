@@ -8,7 +8,9 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 
 @Entity
-@Table(name = "hackathon_registrations")
+@Table(name = "hackathon_registrations", indexes = {
+        @Index(name = "idx_registrations_hackathon_user", columnList = "hackathon_id, user_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
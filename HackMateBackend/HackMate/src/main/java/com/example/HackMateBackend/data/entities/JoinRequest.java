@@ -86,22 +86,16 @@ public class JoinRequest extends BaseEntity {
     }
 
     public List<String> getMatchingSkills() {
-        if (team == null || team.getSkillsNeeded() == null || userSkills == null) {
+        if (team == null) {
             return new ArrayList<>();
         }
-
-        return userSkills.stream()
-                .filter(skill -> team.getSkillsNeeded().contains(skill))
-                .distinct()
-                .toList();
+        return team.getMatchingSkills(userSkills);
     }
 
     public int getMatchPercentage() {
-        if (team == null || team.getSkillsNeeded().isEmpty() || userSkills.isEmpty()) {
+        if (team == null) {
             return 0;
         }
-
-        List<String> matchingSkills = getMatchingSkills();
-        return (int) ((double) matchingSkills.size() / team.getSkillsNeeded().size() * 100);
+        return team.calculateMatchPercentage(userSkills);
     }
 }
\ No newline at end of file
@@ -11,7 +11,9 @@ import lombok.EqualsAndHashCode;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notifications_user_reminder", columnNames = {"user_id", "reminder_key"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -53,6 +55,10 @@ public class Notification extends BaseEntity {
     @Column(name = "read_at")
     private LocalDateTime readAt;
 
+    // Set on scheduled reminders only, so a reminder is never sent twice to the same user
+    @Column(name = "reminder_key", length = 64)
+    private String reminderKey;
+
     public boolean isExpired() {
         return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
     }
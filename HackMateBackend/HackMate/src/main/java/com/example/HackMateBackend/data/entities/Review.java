@@ -32,6 +32,11 @@ public class Review extends BaseEntity {
     @JoinColumn(name = "hackathon_id")
     private Hackathon hackathon;
 
+    // Set instead of hackathon once the hackathon has been moved to the archive
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "archived_hackathon_id")
+    private ArchivedHackathon archivedHackathon;
+
     @Column(name = "is_public", nullable = false)
     private boolean isPublic = true;
 }
\ No newline at end of file
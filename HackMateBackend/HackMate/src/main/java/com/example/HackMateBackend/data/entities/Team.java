@@ -4,19 +4,27 @@ import com.example.HackMateBackend.data.enums.Roles;
 import com.example.HackMateBackend.data.enums.TeamRole;
 import com.example.HackMateBackend.data.enums.TeamStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+        @Index(name = "idx_teams_hackathon_created", columnList = "hackathon_id, created_at, id"),
+        @Index(name = "idx_teams_hackathon_name", columnList = "hackathon_id, team_name, id")
+})
 @EqualsAndHashCode(callSuper = true)
 public class Team extends BaseEntity {
 
@@ -29,10 +37,13 @@ public class Team extends BaseEntity {
     @Column(name = "max_size", nullable = false)
     private int maxSize;
 
-    @Column(name = "current_size", nullable = false)
+    // Only the guarded updates in TeamRepository (reserveSlot/freeSlot) write this and isFull; saving the entity never does
+    @Column(name = "current_size", nullable = false, updatable = false)
     private int currentSize;
 
+    // Team listings read the skills of every team on the page; load them for up to a page at once
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "team_skills_needed", joinColumns = @JoinColumn(name = "team_id"))
     @Column(name = "skill")
     private List<String> skillsNeeded = new ArrayList<>();
@@ -65,12 +76,17 @@ public class Team extends BaseEntity {
     @Column(name = "is_public", nullable = false)
     private boolean isPublic = true;
 
-    @Column(name = "is_full", nullable = false)
+    @Column(name = "is_full", nullable = false, updatable = false)
     private boolean isFull = false;
 
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true;
 
+    // Column default keeps existing teams valid when ddl-auto adds the column
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hackathon_id", nullable = false)
     private Hackathon hackathon;
@@ -95,13 +111,11 @@ public class Team extends BaseEntity {
         return TeamStatus.OPEN;
     }
 
+    // The slot itself is taken beforehand with TeamRepository.reserveSlot, so this only records the member and role
     public void addMember(User user, String assignedRole) {
         if (skillsFilled.contains(assignedRole)) {
             throw new RuntimeException("Team already has this role");
         }
-        if (currentSize >= maxSize) {
-            throw new RuntimeException("Team is already full");
-        }
 
         TeamMember member = new TeamMember();
         member.setTeam(this);
@@ -112,25 +126,18 @@ public class Team extends BaseEntity {
         skillsFilled.add(assignedRole);
         skillsNeeded.remove(assignedRole);
 
-
         this.members.add(member);
-        this.currentSize++;
-
-        if (this.currentSize >= this.maxSize) {
-            this.isFull = true;
-        }
     }
 
-    public void removeMember(User user) {
-        members.removeIf(member -> member.getUser().getId().equals(user.getId()));
+    // Mirrors TeamRepository.freeSlot in memory; the member's row is deactivated through TeamMemberRepository
+    public void releaseSlot() {
         this.currentSize--;
         this.isFull = false;
     }
 
-    public boolean isUserMember(Long userId) {
-        return members.stream()
-                .anyMatch(member -> member.getUser().getId().equals(userId) && member.isActive()
-                );
+    // Skills match trimmed and case-insensitively; TeamSkillIndex ranks with the same key
+    public static String normalizeSkill(String skill) {
+        return skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT);
     }
 
     public List<String> getMatchingSkills(List<String> userSkills) {
@@ -138,19 +145,24 @@ public class Team extends BaseEntity {
             return new ArrayList<>();
         }
 
+        Set<String> needed = normalizedSkillsNeeded();
+        Set<String> matched = new HashSet<>();
         return userSkills.stream()
-                .filter(skillsNeeded::contains)
-                .distinct()
+                .filter(skill -> needed.contains(normalizeSkill(skill)) && matched.add(normalizeSkill(skill)))
                 .toList();
     }
 
+    // Same arithmetic as the skill index, so a list item shows the percentage it was ranked by
     public int calculateMatchPercentage(List<String> userSkills) {
-        if (skillsNeeded.isEmpty() || userSkills == null || userSkills.isEmpty()) {
+        if (skillsNeeded == null || userSkills == null || userSkills.isEmpty()) {
             return 0;
         }
 
-        List<String> matchingSkills = getMatchingSkills(userSkills);
-        return (int) ((double) matchingSkills.size() / skillsNeeded.size() * 100);
+        Set<String> needed = normalizedSkillsNeeded();
+        if (needed.isEmpty()) {
+            return 0;
+        }
+        return getMatchingSkills(userSkills).size() * 100 / needed.size();
     }
 
     public void setRolesNeeded(List<String> roles) {
@@ -173,6 +185,13 @@ public class Team extends BaseEntity {
         this.isPublic = autoAccept;
     }
 
+    private Set<String> normalizedSkillsNeeded() {
+        return skillsNeeded.stream()
+                .map(Team::normalizeSkill)
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
     public boolean isUserLeader(Long leaderId) {
         return this.leader.getId().equals(leaderId);
     }
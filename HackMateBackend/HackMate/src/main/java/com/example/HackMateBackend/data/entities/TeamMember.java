@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 @Entity
-@Table(name = "team_members")
+@Table(name = "team_members", indexes = {
+        @Index(name = "idx_team_members_team_user", columnList = "team_id, user_id, is_active"),
+        @Index(name = "idx_team_members_user", columnList = "user_id, is_active")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
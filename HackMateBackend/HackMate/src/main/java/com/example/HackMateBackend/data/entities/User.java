@@ -59,6 +59,14 @@ public class User {
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
 
+    // Column default keeps existing users opted in when ddl-auto adds the column
+    @Column(name = "deadline_reminders_enabled", nullable = false, columnDefinition = "BOOLEAN DEFAULT TRUE")
+    private boolean deadlineRemindersEnabled = true;
+
+    // Earliest reminder the user wants, in hours before the deadline; null means every reminder window
+    @Column(name = "reminder_hours_before")
+    private Integer reminderHoursBefore;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
@@ -0,0 +1,35 @@
+package com.example.HackMateBackend.data.enums;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public enum UrgencyLevel {
+    LOW,
+    MEDIUM,
+    HIGH,
+    URGENT,
+    EXPIRED;
+
+    private static final Duration URGENT_WITHIN = Duration.ofHours(24);
+    private static final Duration HIGH_WITHIN = Duration.ofHours(72);
+    private static final Duration MEDIUM_WITHIN = Duration.ofHours(168);
+
+    public static UrgencyLevel of(LocalDateTime deadline, LocalDateTime now) {
+        if (now.isAfter(deadline)) return EXPIRED;
+        if (now.isAfter(deadline.minus(URGENT_WITHIN))) return URGENT;
+        if (now.isAfter(deadline.minus(HIGH_WITHIN))) return HIGH;
+        if (now.isAfter(deadline.minus(MEDIUM_WITHIN))) return MEDIUM;
+        return LOW;
+    }
+
+    // The next moment the level for this deadline changes, or null once it has expired
+    public static LocalDateTime nextChange(LocalDateTime deadline, LocalDateTime now) {
+        for (LocalDateTime boundary : new LocalDateTime[]{
+                deadline.minus(MEDIUM_WITHIN), deadline.minus(HIGH_WITHIN), deadline.minus(URGENT_WITHIN), deadline}) {
+            if (!boundary.isBefore(now)) {
+                return boundary;
+            }
+        }
+        return null;
+    }
+}
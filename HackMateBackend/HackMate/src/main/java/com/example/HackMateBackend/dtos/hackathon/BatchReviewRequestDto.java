@@ -0,0 +1,19 @@
+package com.example.HackMateBackend.dtos.hackathon;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReviewRequestDto {
+    @NotEmpty(message = "At least one hackathon id is required")
+    @Size(max = 500, message = "At most 500 hackathons can be reviewed at once")
+    private List<@NotNull(message = "Hackathon ids must not be null") Long> hackathonIds;
+}
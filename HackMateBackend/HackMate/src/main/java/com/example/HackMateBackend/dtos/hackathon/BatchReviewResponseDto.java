@@ -0,0 +1,17 @@
+package com.example.HackMateBackend.dtos.hackathon;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReviewResponseDto {
+    private int updated;
+    private int skipped;
+    // One entry per distinct requested id, in request order
+    private List<BatchReviewResultDto> results;
+}
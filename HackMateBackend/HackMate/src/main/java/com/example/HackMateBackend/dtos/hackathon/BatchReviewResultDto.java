@@ -0,0 +1,17 @@
+package com.example.HackMateBackend.dtos.hackathon;
+
+import com.example.HackMateBackend.data.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReviewResultDto {
+    private Long hackathonId;
+    private boolean success;
+    // Status after the call, null when the hackathon does not exist
+    private Status status;
+    private String message;
+}
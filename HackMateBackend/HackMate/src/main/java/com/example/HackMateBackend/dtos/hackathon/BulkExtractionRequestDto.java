@@ -0,0 +1,19 @@
+package com.example.HackMateBackend.dtos.hackathon;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkExtractionRequestDto {
+    @NotEmpty(message = "At least one message is required")
+    @Size(max = 500, message = "At most 500 messages can be extracted at once")
+    private List<@NotBlank(message = "Messages must not be blank") String> messages;
+}
@@ -0,0 +1,14 @@
+package com.example.HackMateBackend.dtos.hackathon;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One line of the bulk extraction stream; index points into the request's messages
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkExtractionResultDto {
+    private int index;
+    private AIExtractionResponseDto result;
+}
@@ -2,6 +2,7 @@ package com.example.HackMateBackend.dtos.hackathon;
 
 import com.example.HackMateBackend.data.enums.Status;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,5 +19,18 @@ public class CreateHackathonResponseDto {
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime submittedAt;
+
+    // Existing hackathon this submission duplicates, if any
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long duplicateOf;
+
+    public CreateHackathonResponseDto(boolean success, String message, Long hackathonId, Status status,
+                                      LocalDateTime submittedAt) {
+        this.success = success;
+        this.message = message;
+        this.hackathonId = hackathonId;
+        this.status = status;
+        this.submittedAt = submittedAt;
+    }
 }
 
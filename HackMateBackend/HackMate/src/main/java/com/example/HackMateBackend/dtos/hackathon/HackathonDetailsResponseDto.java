@@ -40,8 +40,8 @@ public  class HackathonDetailsResponseDto {
     private long registrationCount;
     private long teamCount;
     private String status;
-//    private boolean isRegistered;
-//    private boolean isStarred;
+    private boolean isRegistered;
+    private boolean isStarred;
     private boolean isExpired;
     private String urgencyLevel;
     private String postedBy;
@@ -52,7 +52,4 @@ public  class HackathonDetailsResponseDto {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime approvedAt;
 
-
-    public HackathonDetailsResponseDto(Long id, String title, String description, String registrationLink, String posterUrl, List<String> tags, String organizer, String location, String prizePool, LocalDateTime deadline, LocalDateTime eventStartDate, LocalDateTime eventEndDate, Integer maxTeamSize, Integer minTeamSize, String contactEmail, Long viewCount, Long registrationCount, Long teamCount, String name, boolean isRegistered, boolean isStarred, boolean expired, String urgencyLevel, String email, LocalDateTime createdAt, LocalDateTime approvedAt) {
-    }
 }
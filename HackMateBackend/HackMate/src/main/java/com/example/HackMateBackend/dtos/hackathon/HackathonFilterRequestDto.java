@@ -13,6 +13,7 @@ import java.util.List;
 public class HackathonFilterRequestDto {
     private String search;
     private List<String> tags;
+    private boolean matchAllTags = false; // false = any of the tags, true = all of them
     private RegistrationStatus status;
     private String urgencyLevel;
     private String organizer;
@@ -22,4 +23,5 @@ public class HackathonFilterRequestDto {
     private String sortDirection = "asc";
     private int page = 0;
     private int size = 20;
+    private String cursor; // null = offset paging, "" = first page in cursor mode
 }
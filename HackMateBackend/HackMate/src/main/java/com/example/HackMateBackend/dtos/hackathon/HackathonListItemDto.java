@@ -1,6 +1,7 @@
 package com.example.HackMateBackend.dtos.hackathon;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -33,4 +34,8 @@ public class HackathonListItemDto {
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime postedAt;
+
+    // Only filled in the admin pending queue
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long duplicateOf;
 }
\ No newline at end of file
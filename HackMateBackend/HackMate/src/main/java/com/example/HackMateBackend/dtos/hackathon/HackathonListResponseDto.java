@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -16,4 +17,20 @@ public class HackathonListResponseDto {
     private long totalElements;
     private boolean hasNext;
     private boolean hasPrevious;
+
+    // Only set in cursor mode; pass it back as `cursor` to fetch the next page
+    private String nextCursor;
+
+    // Tag -> number of hackathons matching the current filter that carry it, most frequent first
+    private Map<String, Long> tagFacets;
+
+    public HackathonListResponseDto(List<HackathonListItemDto> hackathons, int currentPage, int totalPages,
+                                    long totalElements, boolean hasNext, boolean hasPrevious) {
+        this.hackathons = hackathons;
+        this.currentPage = currentPage;
+        this.totalPages = totalPages;
+        this.totalElements = totalElements;
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
+    }
 }
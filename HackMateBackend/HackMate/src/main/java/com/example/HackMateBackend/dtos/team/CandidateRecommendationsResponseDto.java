@@ -0,0 +1,16 @@
+package com.example.HackMateBackend.dtos.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateRecommendationsResponseDto {
+    private Long teamId;
+    private String teamName;
+    private List<RecommendedCandidateDto> candidates;
+}
@@ -0,0 +1,21 @@
+package com.example.HackMateBackend.dtos.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedCandidateDto {
+    private Long userId;
+    private String fullName;
+    private String avatarId;
+    private String college;
+    private String mainSkill;
+    private List<String> skills;
+    private List<String> matchingSkills; // Skills the team still needs
+    private Integer similarity; // Cosine similarity of the skill sets, 0-100
+}
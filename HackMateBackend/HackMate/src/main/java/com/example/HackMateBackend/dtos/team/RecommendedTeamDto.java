@@ -0,0 +1,22 @@
+package com.example.HackMateBackend.dtos.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedTeamDto {
+    private Long teamId;
+    private String teamName;
+    private String description;
+    private Integer maxSize;
+    private Integer currentSize;
+    private Integer availableSlots;
+    private List<String> skillsNeeded;
+    private List<String> matchingSkills; // Needed skills the current user has
+    private Integer similarity; // Cosine similarity of the skill sets, 0-100
+}
@@ -0,0 +1,21 @@
+package com.example.HackMateBackend.dtos.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// A validated roster export, ready to be streamed
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamExportDto {
+    private Long hackathonId;
+    private Long teamId; // null exports every team of the hackathon plus registrants without a team
+    private String hackathonTitle; // null unless hackathon details were requested
+    private String fileName;
+    private String fileFormat; // CSV, NDJSON
+    private boolean includeContactInfo;
+    private LocalDateTime generatedAt;
+}
@@ -12,7 +12,7 @@ public class TeamExportRequestDto {
     @NotNull(message = "Team ID is required")
     private Long teamId;
 
-    private String format = "PDF"; // PDF, CSV
+    private String format = "CSV"; // CSV, NDJSON
     private boolean includeContactInfo = true;
     private boolean includeHackathonDetails = true;
 }
@@ -1,23 +0,0 @@
-package com.example.HackMateBackend.dtos.team;
-
-import com.fasterxml.jackson.annotation.JsonFormat;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.time.LocalDateTime;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class TeamExportResponseDto {
-    private boolean success;
-    private String message;
-    private String downloadUrl;
-    private String fileName;
-    private String fileFormat;
-
-    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-    private LocalDateTime generatedAt;
-}
-
@@ -0,0 +1,15 @@
+package com.example.HackMateBackend.dtos.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamRecommendationsResponseDto {
+    private Long hackathonId;
+    private List<RecommendedTeamDto> teams;
+}
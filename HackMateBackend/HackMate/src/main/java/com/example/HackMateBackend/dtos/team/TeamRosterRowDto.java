@@ -0,0 +1,37 @@
+package com.example.HackMateBackend.dtos.team;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamRosterRowDto {
+    private String hackathonTitle;
+    private Long teamId; // null for registrants without a team
+    private String teamName;
+    private Integer currentSize;
+    private Integer maxSize;
+    private String memberRole; // LEADER, MEMBER
+    private String assignedRole;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime joinedAt;
+
+    private Long userId;
+    private String fullName;
+    private String college;
+    private String year;
+    private String mainSkill;
+    private List<String> skills;
+
+    // Contact columns are left empty unless contact info was requested
+    private String email;
+    private String githubProfile;
+    private String linkedinProfile;
+}
@@ -19,5 +19,7 @@ public class TeamSearchRequestDto {
     private String sortDirection = "desc"; // asc, desc
     private int page = 0;
     private int size = 20;
+    private String cursor; // null = offset paging, "" = first page in cursor mode
+    private boolean includeTotal = false; // Cursor mode only: report the (cached) total as well
 }
 
@@ -16,5 +16,18 @@ public class TeamSearchResponseDto {
     private long totalElements;
     private boolean hasNext;
     private boolean hasPrevious;
+
+    // Only set in cursor mode; pass it back as `cursor` to fetch the next page
+    private String nextCursor;
+
+    public TeamSearchResponseDto(List<TeamListItemDto> teams, int currentPage, int totalPages,
+                                 long totalElements, boolean hasNext, boolean hasPrevious) {
+        this.teams = teams;
+        this.currentPage = currentPage;
+        this.totalPages = totalPages;
+        this.totalElements = totalElements;
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
+    }
 }
 
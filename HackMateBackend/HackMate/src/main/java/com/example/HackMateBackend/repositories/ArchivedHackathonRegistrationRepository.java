@@ -0,0 +1,19 @@
+package com.example.HackMateBackend.repositories;
+
+import com.example.HackMateBackend.data.entities.ArchivedHackathonRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedHackathonRegistrationRepository extends JpaRepository<ArchivedHackathonRegistration, Long> {
+
+    @Query("SELECT r.hackathonId, r.status FROM ArchivedHackathonRegistration r WHERE r.userId = :userId " +
+            "AND r.hackathonId IN :hackathonIds AND r.deleted = false")
+    List<Object[]> findStatusesByUserAndHackathonIds(@Param("userId") Long userId,
+                                                     @Param("hackathonIds") Collection<Long> hackathonIds);
+}
@@ -0,0 +1,27 @@
+package com.example.HackMateBackend.repositories;
+
+import com.example.HackMateBackend.data.entities.ArchivedHackathon;
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.repositories.projections.HackathonListView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedHackathonRepository extends JpaRepository<ArchivedHackathon, Long> {
+
+    @Query("SELECT h.id, t FROM ArchivedHackathon h JOIN h.tags t WHERE h.id IN :hackathonIds")
+    List<Object[]> findTagsByHackathonIds(@Param("hackathonIds") Collection<Long> hackathonIds);
+
+    @Query("SELECT h.id AS id, h.title AS title, " +
+            "SUBSTRING(h.description, 1, " + Hackathon.DESCRIPTION_PREVIEW_LENGTH + ") AS descriptionPreview, " +
+            "h.posterUrl AS posterUrl, h.organizer AS organizer, h.location AS location, h.deadline AS deadline, " +
+            "h.prizePool AS prizePool, h.viewCount AS viewCount, h.registrationCount AS registrationCount, " +
+            "h.teamCount AS teamCount, h.createdAt AS createdAt, CAST(NULL AS Long) AS duplicateOf " +
+            "FROM ArchivedHackathon h WHERE h.id IN :ids")
+    List<HackathonListView> findListViewsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,19 @@
+package com.example.HackMateBackend.repositories;
+
+import com.example.HackMateBackend.data.entities.ArchivedJoinRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedJoinRequestRepository extends JpaRepository<ArchivedJoinRequest, Long> {
+
+    // (request, team name, hackathon title) rows, newest first; archive rows are linked by plain ids
+    @Query("SELECT r, t.teamName, h.title FROM ArchivedJoinRequest r " +
+            "JOIN ArchivedTeam t ON t.id = r.teamId JOIN ArchivedHackathon h ON h.id = t.hackathonId " +
+            "WHERE r.requesterId = :userId AND r.deleted = false ORDER BY r.createdAt DESC")
+    List<Object[]> findByRequesterWithTeam(@Param("userId") Long userId);
+}
@@ -0,0 +1,17 @@
+package com.example.HackMateBackend.repositories;
+
+import com.example.HackMateBackend.data.entities.ArchivedTeam;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedTeamRepository extends JpaRepository<ArchivedTeam, Long> {
+
+    @Query("SELECT t FROM ArchivedTeam t WHERE t.deleted = false AND t.id IN " +
+            "(SELECT m.teamId FROM ArchivedTeamMember m WHERE m.userId = :userId AND m.active = true AND m.deleted = false)")
+    List<ArchivedTeam> findTeamsByMember(@Param("userId") Long userId);
+}
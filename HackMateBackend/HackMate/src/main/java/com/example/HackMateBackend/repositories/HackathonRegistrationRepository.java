@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,4 +39,29 @@ public interface HackathonRegistrationRepository extends JpaRepository<Hackathon
     boolean existsByHackathonAndUserAndStatus(@Param("hackathonId") Long hackathonId,
                                               @Param("userId") Long userId,
                                               @Param("status") RegistrationStatus status);
-}
\ No newline at end of file
+
+    // The viewer's registration status for each hackathon on a page, as (hackathonId, status) rows
+    @Query("SELECT hr.hackathon.id, hr.status FROM HackathonRegistration hr WHERE hr.user.id = :userId " +
+            "AND hr.hackathon.id IN :hackathonIds AND hr.deleted = false")
+    List<Object[]> findStatusesByUserAndHackathonIds(@Param("userId") Long userId,
+                                                     @Param("hackathonIds") Collection<Long> hackathonIds);
+
+    // Registered users without an active team, as (hackathonId, userId, mainSkill, skill) rows for the recommendation index
+    @Query("SELECT hr.hackathon.id, hr.user.id, p.mainSkill, s FROM HackathonRegistration hr " +
+            "JOIN Profile p ON p.user = hr.user LEFT JOIN p.skills s " +
+            "WHERE hr.hackathon.id IN :hackathonIds AND hr.status = :status AND hr.deleted = false AND p.deleted = false " +
+            "AND NOT EXISTS (SELECT tm.id FROM TeamMember tm WHERE tm.user = hr.user AND tm.active = true " +
+            "AND tm.team.hackathon = hr.hackathon AND tm.team.deleted = false)")
+    List<Object[]> findUnteamedSkillRows(@Param("hackathonIds") Collection<Long> hackathonIds,
+                                         @Param("status") RegistrationStatus status);
+
+    @Query("SELECT DISTINCT hr.hackathon.id FROM HackathonRegistration hr WHERE hr.status = :status " +
+            "AND hr.deleted = false AND hr.hackathon.deleted = false AND hr.hackathon.deadline > :now")
+    List<Long> findUpcomingHackathonIdsWithStatus(@Param("status") RegistrationStatus status,
+                                                  @Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT hr.hackathon.id FROM HackathonRegistration hr WHERE hr.user.id IN :userIds " +
+            "AND hr.status = :status AND hr.deleted = false")
+    List<Long> findHackathonIdsByUserIds(@Param("userIds") Collection<Long> userIds,
+                                         @Param("status") RegistrationStatus status);
+}
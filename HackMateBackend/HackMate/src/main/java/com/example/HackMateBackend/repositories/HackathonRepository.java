@@ -3,33 +3,43 @@ package com.example.HackMateBackend.repositories;
 import com.example.HackMateBackend.data.entities.Hackathon;
 import com.example.HackMateBackend.data.entities.User;
 import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.repositories.projections.HackathonListView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface HackathonRepository extends JpaRepository<Hackathon,Long>{
+public interface HackathonRepository extends JpaRepository<Hackathon,Long>, HackathonRepositoryCustom {
+
+    // Select list for HackathonListView in hand-written queries; derived queries pick the columns themselves
+    String LIST_VIEW_COLUMNS = "h.id AS id, h.title AS title, h.descriptionPreview AS descriptionPreview, " +
+            "h.posterUrl AS posterUrl, h.organizer AS organizer, h.location AS location, h.deadline AS deadline, " +
+            "h.prizePool AS prizePool, h.viewCount AS viewCount, h.registrationCount AS registrationCount, " +
+            "h.teamCount AS teamCount, h.createdAt AS createdAt, h.duplicateOf AS duplicateOf";
 
     @Query("SELECT h FROM Hackathon h WHERE h.status = 'ACCEPTED' AND h.deleted = false ORDER BY h.deadline ASC")
     Page<Hackathon> findApprovedHackathons(Pageable pageable);
 
-    @Query("SELECT h FROM Hackathon h WHERE h.status = 'ACCEPTED' AND h.deleted = false AND h.deadline > :now ORDER BY h.deadline ASC")
-    Page<Hackathon> findActiveHackathons(@Param("now") LocalDateTime now, Pageable pageable);
-
-    @Query("SELECT h FROM Hackathon h WHERE h.status = 'ACCEPTED' AND h.deleted = false " +
-            "AND (LOWER(h.title) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(h.description) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(h.organizer) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-            "ORDER BY h.deadline ASC")
-    Page<Hackathon> searchHackathons(@Param("search") String search, Pageable pageable);
+    @Query(value = "SELECT " + LIST_VIEW_COLUMNS + " FROM Hackathon h " +
+            "WHERE h.status = 'ACCEPTED' AND h.deleted = false AND h.deadline > :now ORDER BY h.deadline ASC",
+            countQuery = "SELECT COUNT(h) FROM Hackathon h WHERE h.status = 'ACCEPTED' AND h.deleted = false AND h.deadline > :now")
+    Page<HackathonListView> findActiveHackathons(@Param("now") LocalDateTime now, Pageable pageable);
 
     @Query("SELECT h FROM Hackathon h JOIN h.tags t WHERE h.status = 'ACCEPTED' AND h.deleted = false " +
             "AND t IN :tags ORDER BY h.deadline ASC")
@@ -45,18 +55,64 @@ public interface HackathonRepository extends JpaRepository<Hackathon,Long>{
 
     List<Hackathon> findByStatusAndDeletedFalse(Status status);
 
-    @Query("SELECT h FROM Hackathon h WHERE h.status = 'PENDING' AND h.deleted = false ORDER BY h.createdAt ASC")
-    List<Hackathon> findPendingHackathons();
+    // Keyset scrolling: no OFFSET scan and no COUNT query, the id is appended to the sort as tie-breaker
+    Window<HackathonListView> findByStatusAndDeletedFalse(Status status, ScrollPosition position, Sort sort, Limit limit);
 
-    List<Hackathon> findByPostedByAndDeletedFalse(User postedBy);
+    Window<HackathonListView> findByStatusAndDeletedFalseAndDeadlineAfter(Status status, LocalDateTime now,
+                                                                          ScrollPosition position, Sort sort, Limit limit);
+
+    // Feed restricted to ids resolved by the in-memory tag/urgency indexes
+    Page<HackathonListView> findByStatusAndDeletedFalseAndIdIn(Status status, Collection<Long> ids, Pageable pageable);
+
+    Page<HackathonListView> findByStatusAndDeletedFalseAndDeadlineAfterAndIdIn(Status status, LocalDateTime now,
+                                                                               Collection<Long> ids, Pageable pageable);
+
+    Window<HackathonListView> findByStatusAndDeletedFalseAndIdIn(Status status, Collection<Long> ids,
+                                                                 ScrollPosition position, Sort sort, Limit limit);
+
+    Window<HackathonListView> findByStatusAndDeletedFalseAndDeadlineAfterAndIdIn(Status status, LocalDateTime now,
+                                                                                 Collection<Long> ids, ScrollPosition position,
+                                                                                 Sort sort, Limit limit);
+
+    // Unordered; search results and the archive-inclusive feed restore their own order
+    List<HackathonListView> findByStatusAndDeletedFalseAndIdIn(Status status, Collection<Long> ids);
+
+    Page<HackathonListView> findByStatusAndDeletedFalse(Status status, Pageable pageable);
+
+    // Text columns only, for fingerprinting hackathons without loading them as entities
+    @Query("SELECT h.id, h.title, h.description, h.originalMessage FROM Hackathon h WHERE h.id IN :ids")
+    List<Object[]> findTextsByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT h FROM Hackathon h JOIN h.registrations r WHERE r.user.id = :userId " +
-            "AND r.status = 'REGISTERED' AND h.deleted = false ORDER BY h.deadline ASC")
-    List<Hackathon> findRegisteredHackathonsByUser(@Param("userId") Long userId);
+    // Everything a details ETag depends on, without loading the entity; the view count is left out on purpose
+    @Query("SELECT h.updatedAt, h.registrationCount, h.teamCount FROM Hackathon h " +
+            "WHERE h.id = :id AND h.status = 'ACCEPTED' AND h.deleted = false")
+    List<Object[]> findDetailsVersion(@Param("id") Long id);
 
-    @Query("SELECT h FROM Hackathon h JOIN h.registrations r WHERE r.user.id = :userId " +
-            "AND r.status = 'STARRED' AND h.deleted = false ORDER BY h.deadline ASC")
-    List<Hackathon> findStarredHackathonsByUser(@Param("userId") Long userId);
+    // Locks the rows so the outcome reported for each id matches what the following UPDATE does
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h.id, h.status FROM Hackathon h WHERE h.id IN :ids AND h.deleted = false")
+    List<Object[]> findStatusesForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Hackathon h SET h.status = com.example.HackMateBackend.data.enums.Status.ACCEPTED, " +
+            "h.approvedAt = :now, h.approvedBy = :adminId, h.updatedAt = :now " +
+            "WHERE h.id IN :ids AND h.status = com.example.HackMateBackend.data.enums.Status.PENDING AND h.deleted = false")
+    int approvePending(@Param("ids") Collection<Long> ids, @Param("adminId") Long adminId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Hackathon h SET h.status = com.example.HackMateBackend.data.enums.Status.REJECTED, h.updatedAt = :now " +
+            "WHERE h.id IN :ids AND h.status = com.example.HackMateBackend.data.enums.Status.PENDING AND h.deleted = false")
+    int rejectPending(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT h.id, h.contentFingerprint, h.registrationLink FROM Hackathon h WHERE h.status IN :statuses AND h.deleted = false")
+    List<Object[]> findFingerprintsByStatusIn(@Param("statuses") Collection<Status> statuses);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Hackathon h SET h.contentFingerprint = :fingerprint WHERE h.id = :hackathonId")
+    void updateContentFingerprint(@Param("hackathonId") Long hackathonId, @Param("fingerprint") Long fingerprint);
+
+    List<Hackathon> findByPostedByAndDeletedFalse(User postedBy);
 
     @Query("SELECT h FROM Hackathon h WHERE h.status = 'ACCEPTED' AND h.deleted = false " +
             "AND h.deadline BETWEEN :start AND :end")
@@ -102,7 +158,10 @@ public interface HackathonRepository extends JpaRepository<Hackathon,Long>{
     @Query("SELECT h FROM Hackathon h WHERE h.id = :id AND h.status = 'ACCEPTED' AND h.deleted = false")
     Optional<Hackathon> findApprovedById(@Param("id") Long id);
 
+    // Tags for a whole page of hackathons in one statement, as (hackathonId, tag) rows
+    @Query("SELECT h.id, t FROM Hackathon h JOIN h.tags t WHERE h.id IN :hackathonIds")
+    List<Object[]> findTagsByHackathonIds(@Param("hackathonIds") Collection<Long> hackathonIds);
 
-
-
+    @Query("SELECT h.id, t FROM Hackathon h JOIN h.tags t WHERE h.status = 'ACCEPTED' AND h.deleted = false")
+    List<Object[]> findApprovedHackathonTags();
 }
@@ -0,0 +1,41 @@
+package com.example.HackMateBackend.repositories;
+
+import com.example.HackMateBackend.data.enums.RegistrationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface HackathonRepositoryCustom {
+
+    // One row of the approved feed spanning the hot and the archive table
+    record FeedRow(Long id, Object sortValue, boolean archived) {
+    }
+
+    // Adds the given per-hackathon deltas to view_count in one transaction, returns the number of rows updated
+    int addViewCounts(Map<Long, Long> viewDeltas);
+
+    // Approved hackathons past the cutoff, oldest first
+    List<Long> findArchivableHackathonIds(LocalDateTime cutoff, int limit);
+
+    /**
+     * Copies the hackathons with their tags, registrations and teams (members, skills, join requests)
+     * to the archive tables and deletes them; reviews stay and are pointed at the archived row.
+     * Needs a transaction.
+     */
+    int archiveHackathons(List<Long> hackathonIds, LocalDateTime archivedAt);
+
+    long countApprovedIncludingArchive();
+
+    // The user's registered or starred hackathons from both tables, by deadline and id
+    List<FeedRow> findUserHackathonsIncludingArchive(Long userId, RegistrationStatus status, long offset, int limit);
+
+    long countUserHackathonsIncludingArchive(Long userId, RegistrationStatus status);
+
+    /**
+     * Approved hackathons from both tables ordered by the given sort property and id.
+     * Pass afterValue/afterId to continue after a keyset position, otherwise offset is used.
+     */
+    List<FeedRow> findApprovedIncludingArchive(String sortProperty, boolean descending,
+                                               Object afterValue, Long afterId, long offset, int limit);
+}
@@ -0,0 +1,232 @@
+package com.example.HackMateBackend.repositories;
+
+import com.example.HackMateBackend.data.enums.RegistrationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class HackathonRepositoryCustomImpl implements HackathonRepositoryCustom {
+
+    private static final int MAX_IDS_PER_STATEMENT = 500;
+
+    private static final String HACKATHON_COLUMNS = "id, created_at, updated_at, is_deleted, title, description, " +
+            "registration_link, deadline, poster_url, organizer, location, prize_pool, event_start_date, " +
+            "event_end_date, max_team_size, min_team_size, contact_email, original_message, status, view_count, " +
+            "registration_count, approved_at, approved_by, team_count, posted_by";
+
+    private static final String REGISTRATION_COLUMNS = "id, hackathon_id, user_id, status, created_at, updated_at, is_deleted";
+
+    private static final String TEAM_COLUMNS = "id, created_at, updated_at, is_deleted, team_name, description, max_size, " +
+            "current_size, contact_email, contact_phone, discord_server, whatsapp_group, linkedin_group, " +
+            "external_group_link, is_public, is_full, is_active, hackathon_id, leader_id";
+
+    private static final String TEAM_MEMBER_COLUMNS = "id, team_id, user_id, role, assigned_role, is_active, " +
+            "created_at, updated_at, is_deleted";
+
+    private static final String JOIN_REQUEST_COLUMNS = "id, team_id, requester_id, requested_role, message, status, " +
+            "response_message, expires_at, processed_at, processed_by, created_at, updated_at, is_deleted";
+
+    // Registrations of one user joined to either hackathon table, the archive flag tells the two apart
+    private static final String USER_HACKATHONS = "SELECT h.id, h.deadline AS sort_value, %d AS archived " +
+            "FROM %s r JOIN %s h ON h.id = r.hackathon_id " +
+            "WHERE r.user_id = ? AND r.status = ? AND h.is_deleted = false";
+
+    // Whitelist of sortable properties, the column name ends up in the SQL text
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "deadline", "deadline",
+            "title", "title",
+            "createdAt", "created_at",
+            "viewCount", "view_count"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // All chunks commit together, so a failed flush can put every delta back without counting any twice
+    @Override
+    @Transactional
+    public int addViewCounts(Map<Long, Long> viewDeltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewDeltas.entrySet());
+        int updated = 0;
+
+        for (int from = 0; from < entries.size(); from += MAX_IDS_PER_STATEMENT) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, entries.size()));
+            updated += addViewCountChunk(chunk);
+        }
+        return updated;
+    }
+
+    @Override
+    public List<Long> findArchivableHackathonIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT h.id FROM hackathons h WHERE h.status = 'ACCEPTED' AND h.is_deleted = false AND h.deadline < ? " +
+                        "ORDER BY h.deadline ASC LIMIT ?",
+                Long.class, Timestamp.valueOf(cutoff), limit);
+    }
+
+    @Override
+    public int archiveHackathons(List<Long> hackathonIds, LocalDateTime archivedAt) {
+        if (hackathonIds.isEmpty()) {
+            return 0;
+        }
+        String ids = placeholders(hackathonIds.size());
+        Object[] params = hackathonIds.toArray();
+        Object[] insertParams = new Object[params.length + 1];
+        insertParams[0] = Timestamp.valueOf(archivedAt);
+        System.arraycopy(params, 0, insertParams, 1, params.length);
+
+        int archived = jdbcTemplate.update("INSERT INTO archived_hackathons (" + HACKATHON_COLUMNS + ", archived_at) " +
+                "SELECT " + HACKATHON_COLUMNS + ", ? FROM hackathons WHERE id IN (" + ids + ")", insertParams);
+        jdbcTemplate.update("INSERT INTO archived_hackathon_tags (hackathon_id, tags) " +
+                "SELECT hackathon_id, tags FROM hackathon_tags WHERE hackathon_id IN (" + ids + ")", params);
+        jdbcTemplate.update("INSERT INTO archived_hackathon_registrations (" + REGISTRATION_COLUMNS + ") " +
+                "SELECT " + REGISTRATION_COLUMNS + " FROM hackathon_registrations WHERE hackathon_id IN (" + ids + ")", params);
+
+        String teamIds = "SELECT id FROM teams WHERE hackathon_id IN (" + ids + ")";
+        String joinRequestIds = "SELECT id FROM join_requests WHERE team_id IN (" + teamIds + ")";
+        jdbcTemplate.update("INSERT INTO archived_teams (" + TEAM_COLUMNS + ") " +
+                "SELECT " + TEAM_COLUMNS + " FROM teams WHERE hackathon_id IN (" + ids + ")", params);
+        jdbcTemplate.update("INSERT INTO archived_team_skills_needed (team_id, skill) " +
+                "SELECT team_id, skill FROM team_skills_needed WHERE team_id IN (" + teamIds + ")", params);
+        jdbcTemplate.update("INSERT INTO archived_team_skills_filled (team_id, skill) " +
+                "SELECT team_id, skill FROM team_skills_filled WHERE team_id IN (" + teamIds + ")", params);
+        jdbcTemplate.update("INSERT INTO archived_team_members (" + TEAM_MEMBER_COLUMNS + ") " +
+                "SELECT " + TEAM_MEMBER_COLUMNS + " FROM team_members WHERE team_id IN (" + teamIds + ")", params);
+        jdbcTemplate.update("INSERT INTO archived_join_requests (" + JOIN_REQUEST_COLUMNS + ") " +
+                "SELECT " + JOIN_REQUEST_COLUMNS + " FROM join_requests WHERE team_id IN (" + teamIds + ")", params);
+        jdbcTemplate.update("INSERT INTO archived_join_request_skills (join_request_id, skill) " +
+                "SELECT join_request_id, skill FROM join_request_skills WHERE join_request_id IN (" + joinRequestIds + ")", params);
+
+        // Reviews belong to the reviewed profile, so they stay and only switch to the archived hackathon
+        jdbcTemplate.update("UPDATE reviews SET archived_hackathon_id = hackathon_id, hackathon_id = NULL " +
+                "WHERE hackathon_id IN (" + ids + ")", params);
+
+        jdbcTemplate.update("DELETE FROM join_request_skills WHERE join_request_id IN (" + joinRequestIds + ")", params);
+        jdbcTemplate.update("DELETE FROM join_requests WHERE team_id IN (" + teamIds + ")", params);
+        jdbcTemplate.update("DELETE FROM team_members WHERE team_id IN (" + teamIds + ")", params);
+        jdbcTemplate.update("DELETE FROM team_skills_needed WHERE team_id IN (" + teamIds + ")", params);
+        jdbcTemplate.update("DELETE FROM team_skills_filled WHERE team_id IN (" + teamIds + ")", params);
+        jdbcTemplate.update("DELETE FROM teams WHERE hackathon_id IN (" + ids + ")", params);
+        jdbcTemplate.update("DELETE FROM hackathon_registrations WHERE hackathon_id IN (" + ids + ")", params);
+        jdbcTemplate.update("DELETE FROM hackathon_tags WHERE hackathon_id IN (" + ids + ")", params);
+        jdbcTemplate.update("DELETE FROM hackathons WHERE id IN (" + ids + ")", params);
+        return archived;
+    }
+
+    @Override
+    public long countApprovedIncludingArchive() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM hackathons WHERE status = 'ACCEPTED' AND is_deleted = false) + " +
+                        "(SELECT COUNT(*) FROM archived_hackathons WHERE status = 'ACCEPTED' AND is_deleted = false)",
+                Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<FeedRow> findUserHackathonsIncludingArchive(Long userId, RegistrationStatus status, long offset, int limit) {
+        String sql = "SELECT id, sort_value, archived FROM (" +
+                USER_HACKATHONS.formatted(0, "hackathon_registrations", "hackathons") + " UNION ALL " +
+                USER_HACKATHONS.formatted(1, "archived_hackathon_registrations", "archived_hackathons") +
+                ") mine ORDER BY sort_value ASC, id ASC LIMIT ? OFFSET ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new FeedRow(
+                rs.getLong("id"),
+                toJavaValue(rs.getObject("sort_value")),
+                rs.getInt("archived") == 1
+        ), userId, status.name(), userId, status.name(), limit, offset);
+    }
+
+    @Override
+    public long countUserHackathonsIncludingArchive(Long userId, RegistrationStatus status) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM hackathon_registrations r JOIN hackathons h ON h.id = r.hackathon_id " +
+                        "WHERE r.user_id = ? AND r.status = ? AND h.is_deleted = false) + " +
+                        "(SELECT COUNT(*) FROM archived_hackathon_registrations r JOIN archived_hackathons h " +
+                        "ON h.id = r.hackathon_id WHERE r.user_id = ? AND r.status = ? AND h.is_deleted = false)",
+                Long.class, userId, status.name(), userId, status.name());
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<FeedRow> findApprovedIncludingArchive(String sortProperty, boolean descending,
+                                                      Object afterValue, Long afterId, long offset, int limit) {
+        String column = SORT_COLUMNS.get(sortProperty);
+        if (column == null) {
+            throw new IllegalArgumentException("Unsupported sort property: " + sortProperty);
+        }
+        String direction = descending ? "DESC" : "ASC";
+        boolean keyset = afterId != null;
+
+        // The keyset predicate is repeated in each branch so both tables can use their own index
+        String keysetPredicate = keyset
+                ? " AND (" + column + (descending ? " < ?" : " > ?") + " OR (" + column + " = ? AND id" + (descending ? " < ?" : " > ?") + "))"
+                : "";
+        String sql = "SELECT id, sort_value, archived FROM (" +
+                "SELECT id, " + column + " AS sort_value, 0 AS archived FROM hackathons " +
+                "WHERE status = 'ACCEPTED' AND is_deleted = false" + keysetPredicate +
+                " UNION ALL " +
+                "SELECT id, " + column + " AS sort_value, 1 AS archived FROM archived_hackathons " +
+                "WHERE status = 'ACCEPTED' AND is_deleted = false" + keysetPredicate +
+                ") feed ORDER BY sort_value " + direction + ", id " + direction + " LIMIT ? OFFSET ?";
+
+        List<Object> params = new ArrayList<>();
+        if (keyset) {
+            Object value = afterValue instanceof LocalDateTime time ? Timestamp.valueOf(time) : afterValue;
+            for (int branch = 0; branch < 2; branch++) {
+                Collections.addAll(params, value, value, afterId);
+            }
+        }
+        params.add(limit);
+        params.add(keyset ? 0 : offset);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new FeedRow(
+                rs.getLong("id"),
+                toJavaValue(rs.getObject("sort_value")),
+                rs.getInt("archived") == 1
+        ), params.toArray());
+    }
+
+    // === Helper Methods ===
+
+    // UPDATE hackathons SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (?, ...)
+    private int addViewCountChunk(List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE hackathons SET view_count = view_count + CASE id");
+        List<Object> params = new ArrayList<>(chunk.size() * 3);
+
+        for (Map.Entry<Long, Long> entry : chunk) {
+            sql.append(" WHEN ? THEN ?");
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END WHERE id IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            params.add(chunk.get(i).getKey());
+        }
+        sql.append(")");
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    // JDBC drivers hand back Timestamp/Integer where the cursor codec expects LocalDateTime/Long
+    private static Object toJavaValue(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof Number number && !(value instanceof Long)) {
+            return number.longValue();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.HackMateBackend.repositories;
+
+import com.example.HackMateBackend.data.entities.Notification;
+
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+
+    /**
+     * Next chunk of users registered for or starring the hackathon, ordered by id, who opted in to
+     * deadline reminders, whose reminder-hours preference covers this window (pass null to skip that check)
+     * and who have no notification with the given reminder key yet. Keys carry the deadline they were sent for,
+     * so moving the deadline makes everyone eligible again.
+     */
+    List<Long> findDeadlineReminderRecipients(Long hackathonId, String reminderKey, Integer windowHours,
+                                              Long afterUserId, int limit);
+
+    // Inserts one copy of the template per user in a single JDBC batch, returns the number of rows inserted
+    int insertForUsers(Notification template, List<Long> userIds);
+}
@@ -0,0 +1,77 @@
+package com.example.HackMateBackend.repositories;
+
+import com.example.HackMateBackend.data.entities.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications (created_at, updated_at, is_deleted, user_id, " +
+            "title, message, type, priority, is_read, action_url, related_entity_id, related_entity_type, expires_at, " +
+            "reminder_key) VALUES (?, ?, false, ?, ?, ?, ?, ?, false, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findDeadlineReminderRecipients(Long hackathonId, String reminderKey, Integer windowHours,
+                                                     Long afterUserId, int limit) {
+        String sql = "SELECT DISTINCT r.user_id FROM hackathon_registrations r JOIN users u ON u.id = r.user_id " +
+                "WHERE r.hackathon_id = ? AND r.status IN ('REGISTERED', 'STARRED') AND r.is_deleted = false " +
+                "AND r.user_id > ? AND u.deadline_reminders_enabled = true" +
+                (windowHours != null ? " AND (u.reminder_hours_before IS NULL OR u.reminder_hours_before >= ?)" : "") +
+                " AND NOT EXISTS (SELECT 1 FROM notifications n WHERE n.user_id = r.user_id AND n.reminder_key = ?)" +
+                " ORDER BY r.user_id LIMIT ?";
+
+        List<Object> params = new ArrayList<>(5);
+        params.add(hackathonId);
+        params.add(afterUserId);
+        if (windowHours != null) {
+            params.add(windowHours);
+        }
+        params.add(reminderKey);
+        params.add(limit);
+
+        return jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+    }
+
+    @Override
+    public int insertForUsers(Notification template, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expiresAt = template.getExpiresAt() != null ? Timestamp.valueOf(template.getExpiresAt()) : null;
+
+        // The type column is mapped without @Enumerated, so Hibernate stores the ordinal
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setLong(3, userId);
+            ps.setString(4, template.getTitle());
+            ps.setString(5, template.getMessage());
+            ps.setInt(6, template.getType().ordinal());
+            ps.setString(7, template.getPriority().name());
+            ps.setString(8, template.getActionUrl());
+            ps.setObject(9, template.getRelatedEntityId(), Types.BIGINT);
+            ps.setString(10, template.getRelatedEntityType());
+            ps.setTimestamp(11, expiresAt);
+            ps.setString(12, template.getReminderKey());
+        });
+
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers that rewrite the batch report SUCCESS_NO_INFO instead of a row count
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +21,12 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     @Query("SELECT p FROM Profile p WHERE p.user.id = :userId AND p.deleted = false")
     Optional<Profile> findByUserId(@Param("userId") Long userId);
 
-    // Search profiles by skills
-    @Query("SELECT p FROM Profile p JOIN p.skills s WHERE s IN :skills AND p.deleted = false")
-    List<Profile> findBySkillsIn(@Param("skills") List<String> skills);
+    // A user's skill vector as (mainSkill, skill) rows; skill is null when only a main skill is set
+    @Query("SELECT p.mainSkill, s FROM Profile p LEFT JOIN p.skills s WHERE p.user.id = :userId AND p.deleted = false")
+    List<Object[]> findSkillRowsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT p FROM Profile p LEFT JOIN FETCH p.skills WHERE p.user.id IN :userIds AND p.deleted = false")
+    List<Profile> findWithSkillsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 
     // Search profiles by college
     @Query("SELECT p FROM Profile p WHERE LOWER(p.college) LIKE LOWER(CONCAT('%', :college, '%')) AND p.deleted = false")
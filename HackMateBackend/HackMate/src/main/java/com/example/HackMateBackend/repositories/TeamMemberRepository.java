@@ -3,11 +3,15 @@ package com.example.HackMateBackend.repositories;
 import com.example.HackMateBackend.data.entities.Team;
 import com.example.HackMateBackend.data.entities.TeamMember;
 import com.example.HackMateBackend.data.entities.User;
+import com.example.HackMateBackend.repositories.projections.TeamMemberDetailsView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,8 +30,34 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     @Query("SELECT COUNT(tm) FROM TeamMember tm WHERE tm.team.id = :teamId AND tm.active = true AND tm.deleted = false")
     long countActiveByTeam(@Param("teamId") Long teamId);
 
+    // Which of the given users are already on a team for the hackathon
+    @Query("SELECT tm.user.id FROM TeamMember tm WHERE tm.user.id IN :userIds AND tm.active = true " +
+            "AND tm.team.hackathon.id = :hackathonId AND tm.team.deleted = false")
+    List<Long> findTeamedUserIds(@Param("hackathonId") Long hackathonId, @Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT tm FROM TeamMember tm WHERE tm.user.id = :userId AND tm.active = true AND tm.deleted = false")
     List<TeamMember> findActiveByUser(@Param("userId") Long userId);
 
     boolean existsByTeamAndUserAndActiveTrue(Team team, User user);
-}
\ No newline at end of file
+
+    // Answered from the (team_id, user_id, is_active) index, without loading the team's member collection
+    @Query("SELECT CASE WHEN COUNT(tm) > 0 THEN true ELSE false END FROM TeamMember tm " +
+            "WHERE tm.team.id = :teamId AND tm.user.id = :userId AND tm.active = true AND tm.deleted = false " +
+            "AND tm.team.deleted = false")
+    boolean isActiveMember(@Param("teamId") Long teamId, @Param("userId") Long userId);
+
+    // Returns 0 when the user was not an active member, so the check and the removal are one statement
+    @Modifying
+    @Query("UPDATE TeamMember tm SET tm.active = false, tm.updatedAt = :now " +
+            "WHERE tm.team.id = :teamId AND tm.user.id = :userId AND tm.active = true AND tm.deleted = false")
+    int deactivateMember(@Param("teamId") Long teamId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // Active members with profile and skills for the team details page, in join order
+    @Query("SELECT u.id AS userId, u.email AS email, tm.role AS role, tm.assignedRole AS assignedRole, " +
+            "tm.createdAt AS joinedAt, p.fullName AS fullName, p.avatarId AS avatarId, p.college AS college, " +
+            "p.year AS year, p.githubProfile AS githubProfile, s AS skill " +
+            "FROM TeamMember tm JOIN tm.user u LEFT JOIN Profile p ON p.user = u AND p.deleted = false " +
+            "LEFT JOIN p.skills s WHERE tm.team.id = :teamId AND tm.active = true AND tm.deleted = false " +
+            "ORDER BY tm.id")
+    List<TeamMemberDetailsView> findActiveMemberDetails(@Param("teamId") Long teamId);
+}
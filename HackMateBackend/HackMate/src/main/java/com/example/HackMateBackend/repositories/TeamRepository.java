@@ -6,21 +6,51 @@ import com.example.HackMateBackend.data.entities.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends JpaRepository<Team, Long>, TeamRepositoryCustom {
 
     @Query("SELECT t FROM Team t WHERE t.id = :id AND t.deleted = false")
     Optional<Team> findByIdAndNotDeleted(@Param("id") Long id);
 
+    /**
+     * The team with hackathon, leader and needed skills fetched, plus the viewer's state as
+     * (team, pendingRequestCount, teamsInHackathonCount). One row per needed skill, all with the same values.
+     */
+    @Query("SELECT t, " +
+            "(SELECT COUNT(jr) FROM JoinRequest jr WHERE jr.requester.id = :userId AND jr.team.id = t.id " +
+            "AND jr.deleted = false AND jr.status = 'PENDING' AND jr.expiresAt > :now), " +
+            "(SELECT COUNT(m) FROM TeamMember m JOIN m.team mt WHERE m.user.id = :userId AND m.active = true " +
+            "AND mt.hackathon.id = t.hackathon.id AND mt.deleted = false) " +
+            "FROM Team t JOIN FETCH t.hackathon JOIN FETCH t.leader LEFT JOIN FETCH t.skillsNeeded " +
+            "WHERE t.id = :id AND t.deleted = false")
+    List<Object[]> findDetailsWithViewerState(@Param("id") Long id, @Param("userId") Long userId,
+                                              @Param("now") LocalDateTime now);
+
     List<Team> findByHackathonAndDeletedFalse(Hackathon hackathon);
 
+    // Takes a slot only while one is free, returns 0 when the team is full (or inactive).
+    // is_full is assigned first so it reads the old current_size on MySQL too, which applies SET left to right.
+    @Modifying
+    @Query("UPDATE Team t SET t.isFull = CASE WHEN t.currentSize + 1 >= t.maxSize THEN true ELSE false END, " +
+            "t.currentSize = t.currentSize + 1 " +
+            "WHERE t.id = :teamId AND t.deleted = false AND t.isActive = true AND t.currentSize < t.maxSize")
+    int reserveSlot(@Param("teamId") Long teamId);
+
+    @Modifying
+    @Query("UPDATE Team t SET t.isFull = false, t.currentSize = t.currentSize - 1 " +
+            "WHERE t.id = :teamId AND t.currentSize > 1")
+    int freeSlot(@Param("teamId") Long teamId);
+
     List<Team> findByLeaderAndDeletedFalse(User leader);
 
     @Query("SELECT t FROM Team t WHERE t.hackathon.id = :hackathonId AND t.deleted = false " +
@@ -31,12 +61,10 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             "AND t.isPublic = true AND t.isActive = true AND t.isFull = false")
     Page<Team> findOpenTeamsByHackathon(@Param("hackathonId") Long hackathonId, Pageable pageable);
 
-    @Query("SELECT t FROM Team t WHERE t.hackathon.id = :hackathonId AND t.deleted = false " +
-            "AND t.isPublic = true AND t.isActive = true " +
-            "AND (LOWER(t.teamName) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Team> searchTeamsByHackathon(@Param("hackathonId") Long hackathonId,
-                                      @Param("search") String search, Pageable pageable);
+    // Searchable teams as (teamId, hackathonId, teamName, description, createdAt) rows, for the in-memory search index
+    @Query("SELECT t.id, t.hackathon.id, t.teamName, t.description, t.createdAt FROM Team t " +
+            "WHERE t.deleted = false AND t.isPublic = true AND t.isActive = true")
+    List<Object[]> findSearchableTeamTexts();
 
     @Query("SELECT t FROM Team t JOIN t.skillsNeeded s WHERE t.hackathon.id = :hackathonId " +
             "AND t.deleted = false AND t.isPublic = true AND t.isActive = true " +
@@ -78,6 +106,29 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             "AND t.currentSize < t.maxSize")
     List<Team> findTeamsWithAvailableSlots();
 
+    // Open teams as (teamId, hackathonId, createdAt) rows, for the in-memory skill index
+    @Query("SELECT t.id, t.hackathon.id, t.createdAt FROM Team t WHERE t.deleted = false " +
+            "AND t.isPublic = true AND t.isActive = true AND t.isFull = false AND t.currentSize < t.maxSize")
+    List<Object[]> findOpenTeamSummaries();
+
+    @Query("SELECT t.id, s FROM Team t JOIN t.skillsNeeded s WHERE t.deleted = false " +
+            "AND t.isPublic = true AND t.isActive = true AND t.isFull = false AND t.currentSize < t.maxSize")
+    List<Object[]> findOpenTeamSkills();
+
+    // Needed skills of the open teams of the given hackathons, as (hackathonId, teamId, skill) rows
+    @Query("SELECT t.hackathon.id, t.id, s FROM Team t JOIN t.skillsNeeded s WHERE t.hackathon.id IN :hackathonIds " +
+            "AND t.deleted = false AND t.isPublic = true AND t.isActive = true AND t.isFull = false " +
+            "AND t.currentSize < t.maxSize")
+    List<Object[]> findOpenTeamSkillsByHackathonIds(@Param("hackathonIds") Collection<Long> hackathonIds);
+
+    // Every team of the given hackathons, whatever its state; used to drop archived teams from the indexes
+    @Query("SELECT t.id FROM Team t WHERE t.hackathon.id IN :hackathonIds")
+    List<Long> findIdsByHackathonIds(@Param("hackathonIds") Collection<Long> hackathonIds);
+
+    @Query("SELECT DISTINCT t.hackathon.id FROM Team t WHERE t.deleted = false AND t.isPublic = true " +
+            "AND t.isActive = true AND t.isFull = false AND t.hackathon.deleted = false AND t.hackathon.deadline > :now")
+    List<Long> findUpcomingHackathonIdsWithOpenTeams(@Param("now") LocalDateTime now);
+
     @Query("SELECT t FROM Team t WHERE t.hackathon.id = :hackathonId AND t.deleted = false " +
             "AND t.isPublic = true " +
             "AND (:status = 'ALL' OR " +
@@ -0,0 +1,44 @@
+package com.example.HackMateBackend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface TeamRepositoryCustom {
+
+    // One team member (team columns are null for registrants without a team), with the profile skills merged in
+    record RosterRow(Long teamId, String teamName, Integer currentSize, Integer maxSize, String memberRole,
+                     String assignedRole, LocalDateTime joinedAt, Long userId, String email, String fullName,
+                     String college, String year, String mainSkill, String githubProfile, String linkedinProfile,
+                     List<String> skills) {
+    }
+
+    // One team of a search listing with the value it is sorted by, enough to continue after it
+    record TeamKey(Long id, Object sortValue) {
+    }
+
+    /**
+     * Filters of a public team listing; null or empty fields are not applied. status is ALL, OPEN (active
+     * and not full), FULL, CLOSED (inactive) or ACTIVE; search matches name or description, skills any needed skill.
+     */
+    record TeamFilter(Long hackathonId, String status, String search, List<String> skills) {
+    }
+
+    /**
+     * Teams matching the filter ordered by the given sort property and id, without a COUNT.
+     * Pass afterValue/afterId to continue after a keyset position.
+     */
+    List<TeamKey> findTeamKeys(TeamFilter filter, String sortProperty, boolean descending,
+                               Object afterValue, Long afterId, int limit);
+
+    long countTeams(TeamFilter filter);
+
+    /**
+     * Streams the active members of the hackathon's teams (or of one team when teamId is given), ordered by
+     * team and join order, through a forward-only cursor. Rows are handed over one at a time, never collected.
+     */
+    void streamTeamRoster(Long hackathonId, Long teamId, int fetchSize, Consumer<RosterRow> onRow);
+
+    // Users registered for the hackathon who are not on any of its teams, streamed the same way
+    void streamUnteamedRegistrants(Long hackathonId, int fetchSize, Consumer<RosterRow> onRow);
+}
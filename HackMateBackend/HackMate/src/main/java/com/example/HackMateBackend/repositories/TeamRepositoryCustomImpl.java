@@ -0,0 +1,216 @@
+package com.example.HackMateBackend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class TeamRepositoryCustomImpl implements TeamRepositoryCustom {
+
+    private static final String USER_COLUMNS = "u.id AS user_id, u.email, p.full_name, p.college, p.year, " +
+            "p.main_skill, p.github_profile, p.linkedin_profile, ps.skill";
+
+    private static final String PROFILE_JOINS = "JOIN users u ON u.id = %s " +
+            "LEFT JOIN profiles p ON p.user_id = u.id AND p.is_deleted = false " +
+            "LEFT JOIN profile_skills ps ON ps.profile_id = p.id ";
+
+    // Whitelist of sortable properties, the expression ends up in the SQL text
+    private static final Map<String, String> SORT_EXPRESSIONS = Map.of(
+            "createdAt", "t.created_at",
+            "teamName", "t.team_name",
+            "availableSlots", "(t.max_size - t.current_size)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TeamKey> findTeamKeys(TeamFilter filter, String sortProperty, boolean descending,
+                                      Object afterValue, Long afterId, int limit) {
+        String expression = SORT_EXPRESSIONS.get(sortProperty);
+        if (expression == null) {
+            throw new IllegalArgumentException("Unsupported sort property: " + sortProperty);
+        }
+        String direction = descending ? "DESC" : "ASC";
+        String comparison = descending ? " < ?" : " > ?";
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT t.id, ").append(expression).append(" AS sort_value FROM teams t WHERE ")
+                .append(filterPredicate(filter, params));
+        if (afterId != null) {
+            Object value = afterValue instanceof LocalDateTime time ? Timestamp.valueOf(time) : afterValue;
+            sql.append(" AND (").append(expression).append(comparison)
+                    .append(" OR (").append(expression).append(" = ? AND t.id").append(comparison).append("))");
+            Collections.addAll(params, value, value, afterId);
+        }
+        sql.append(" ORDER BY sort_value ").append(direction).append(", t.id ").append(direction).append(" LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new TeamKey(
+                rs.getLong("id"),
+                toJavaValue(rs.getObject("sort_value"))
+        ), params.toArray());
+    }
+
+    @Override
+    public long countTeams(TeamFilter filter) {
+        List<Object> params = new ArrayList<>();
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM teams t WHERE " + filterPredicate(filter, params),
+                Long.class, params.toArray());
+        return count != null ? count : 0L;
+    }
+
+    // One row per member and skill; the ORDER BY keeps a member's rows adjacent so they can be merged on the fly
+    @Override
+    public void streamTeamRoster(Long hackathonId, Long teamId, int fetchSize, Consumer<RosterRow> onRow) {
+        String sql = "SELECT tm.id AS row_key, t.id AS team_id, t.team_name, t.current_size, t.max_size, tm.role, " +
+                "tm.assigned_role, tm.created_at AS joined_at, " + USER_COLUMNS + " " +
+                "FROM teams t JOIN team_members tm ON tm.team_id = t.id AND tm.is_active = true AND tm.is_deleted = false " +
+                PROFILE_JOINS.formatted("tm.user_id") +
+                "WHERE t.hackathon_id = ? AND t.is_deleted = false" + (teamId != null ? " AND t.id = ?" : "") +
+                " ORDER BY t.id, tm.id";
+
+        stream(sql, fetchSize, onRow, true, teamId != null ? new Object[]{hackathonId, teamId} : new Object[]{hackathonId});
+    }
+
+    @Override
+    public void streamUnteamedRegistrants(Long hackathonId, int fetchSize, Consumer<RosterRow> onRow) {
+        String sql = "SELECT r.user_id AS row_key, " + USER_COLUMNS + " " +
+                "FROM hackathon_registrations r " + PROFILE_JOINS.formatted("r.user_id") +
+                "WHERE r.hackathon_id = ? AND r.status = 'REGISTERED' AND r.is_deleted = false " +
+                "AND NOT EXISTS (SELECT 1 FROM team_members tm JOIN teams t ON t.id = tm.team_id " +
+                "WHERE tm.user_id = r.user_id AND tm.is_active = true AND t.hackathon_id = r.hackathon_id " +
+                "AND t.is_deleted = false) " +
+                "ORDER BY r.user_id";
+
+        stream(sql, fetchSize, onRow, false, new Object[]{hackathonId});
+    }
+
+    // === Helper Methods ===
+
+    // Same conditions as TeamRepository.findTeamsWithFilters, with the skill match as EXISTS so no team repeats
+    private static String filterPredicate(TeamFilter filter, List<Object> params) {
+        StringBuilder predicate = new StringBuilder("t.hackathon_id = ? AND t.is_deleted = false AND t.is_public = true");
+        params.add(filter.hackathonId());
+
+        String status = filter.status() != null ? filter.status().toUpperCase() : "ALL";
+        switch (status) {
+            case "OPEN" -> predicate.append(" AND t.is_active = true AND t.is_full = false");
+            case "FULL" -> predicate.append(" AND t.is_full = true");
+            case "CLOSED" -> predicate.append(" AND t.is_active = false");
+            case "ACTIVE" -> predicate.append(" AND t.is_active = true");
+            case "ALL" -> {
+            }
+            default -> throw new IllegalArgumentException("Unsupported team status: " + filter.status());
+        }
+
+        if (filter.search() != null && !filter.search().isBlank()) {
+            String pattern = "%" + filter.search().trim().toLowerCase() + "%";
+            predicate.append(" AND (LOWER(t.team_name) LIKE ? OR LOWER(t.description) LIKE ?)");
+            Collections.addAll(params, pattern, pattern);
+        }
+
+        if (filter.skills() != null && !filter.skills().isEmpty()) {
+            predicate.append(" AND EXISTS (SELECT 1 FROM team_skills_needed s WHERE s.team_id = t.id AND s.skill IN (")
+                    .append(String.join(", ", Collections.nCopies(filter.skills().size(), "?")))
+                    .append("))");
+            params.addAll(filter.skills());
+        }
+        return predicate.toString();
+    }
+
+    // JDBC drivers hand back Timestamp/Integer where the cursor codec expects LocalDateTime/Long
+    private static Object toJavaValue(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof Number number && !(value instanceof Long)) {
+            return number.longValue();
+        }
+        return value;
+    }
+
+    // The MySQL driver buffers the whole result for any positive fetch size; Integer.MIN_VALUE on a
+    // forward-only, read-only statement makes it stream row by row, for this statement only
+    private void stream(String sql, int fetchSize, Consumer<RosterRow> onRow, boolean withTeam, Object[] params) {
+        RosterRowMerger merger = new RosterRowMerger(onRow, withTeam);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            boolean mySql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+            statement.setFetchSize(mySql ? Integer.MIN_VALUE : fetchSize);
+            for (int i = 0; i < params.length; i++) {
+                statement.setLong(i + 1, (Long) params[i]);
+            }
+            return statement;
+        }, merger);
+        merger.finish();
+    }
+
+    // Folds the consecutive skill rows of one member into a single RosterRow, so only one member is held at a time
+    private static final class RosterRowMerger implements RowCallbackHandler {
+
+        private final Consumer<RosterRow> onRow;
+        private final boolean withTeam;
+        private long currentKey;
+        private RosterRow current;
+
+        RosterRowMerger(Consumer<RosterRow> onRow, boolean withTeam) {
+            this.onRow = onRow;
+            this.withTeam = withTeam;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long key = rs.getLong("row_key");
+            if (current == null || key != currentKey) {
+                finish();
+                currentKey = key;
+                current = readRow(rs);
+            }
+            String skill = rs.getString("skill");
+            if (skill != null) {
+                current.skills().add(skill);
+            }
+        }
+
+        void finish() {
+            if (current != null) {
+                onRow.accept(current);
+                current = null;
+            }
+        }
+
+        private RosterRow readRow(ResultSet rs) throws SQLException {
+            Timestamp joinedAt = withTeam ? rs.getTimestamp("joined_at") : null;
+            return new RosterRow(
+                    withTeam ? rs.getLong("team_id") : null,
+                    withTeam ? rs.getString("team_name") : null,
+                    withTeam ? rs.getInt("current_size") : null,
+                    withTeam ? rs.getInt("max_size") : null,
+                    withTeam ? rs.getString("role") : null,
+                    withTeam ? rs.getString("assigned_role") : null,
+                    joinedAt != null ? joinedAt.toLocalDateTime() : null,
+                    rs.getLong("user_id"),
+                    rs.getString("email"),
+                    rs.getString("full_name"),
+                    rs.getString("college"),
+                    rs.getString("year"),
+                    rs.getString("main_skill"),
+                    rs.getString("github_profile"),
+                    rs.getString("linkedin_profile"),
+                    new ArrayList<>()
+            );
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.HackMateBackend.repositories;
 
 import com.example.HackMateBackend.data.entities.User;
 import com.example.HackMateBackend.data.enums.Roles;
+import com.example.HackMateBackend.repositories.projections.UserSummaryView;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +45,11 @@ public interface UserRepository extends JpaRepository<User,Long> {
     @Query("UPDATE User u SET u.lastLoginAt = :loginTime WHERE u.id = :userId")
     void updateLastLoginTime(@Param("userId") Long userId, @Param("loginTime") LocalDateTime loginTime);
 
+    // Name/avatar for a whole page of users (e.g. team leaders) in one statement
+    @Query("SELECT u.id AS userId, u.email AS email, p.fullName AS fullName, p.avatarId AS avatarId " +
+            "FROM User u LEFT JOIN Profile p ON p.user = u AND p.deleted = false WHERE u.id IN :userIds")
+    List<UserSummaryView> findSummariesByIdIn(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT u FROM User u WHERE u.lastLoginAt < :cutoffDate OR u.lastLoginAt IS NULL")
     List<User> findInactiveUsers(@Param("cutoffDate") LocalDateTime cutoffDate);
 
@@ -0,0 +1,36 @@
+package com.example.HackMateBackend.repositories.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection holding only what a list card shows. Queries returning it select just
+ * these columns, with the description cut to a preview, and leave no managed entities behind.
+ */
+public interface HackathonListView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescriptionPreview();
+
+    String getPosterUrl();
+
+    String getOrganizer();
+
+    String getLocation();
+
+    LocalDateTime getDeadline();
+
+    String getPrizePool();
+
+    Long getViewCount();
+
+    Long getRegistrationCount();
+
+    Long getTeamCount();
+
+    LocalDateTime getCreatedAt();
+
+    Long getDuplicateOf();
+}
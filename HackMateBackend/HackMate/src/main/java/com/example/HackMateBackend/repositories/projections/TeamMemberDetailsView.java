@@ -0,0 +1,34 @@
+package com.example.HackMateBackend.repositories.projections;
+
+import com.example.HackMateBackend.data.enums.TeamRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * One active team member with their profile, joined with the profile skills: a member
+ * with several skills comes back as several rows, one skill each.
+ */
+public interface TeamMemberDetailsView {
+
+    Long getUserId();
+
+    String getEmail();
+
+    TeamRole getRole();
+
+    String getAssignedRole();
+
+    LocalDateTime getJoinedAt();
+
+    String getFullName();
+
+    String getAvatarId();
+
+    String getCollege();
+
+    String getYear();
+
+    String getGithubProfile();
+
+    String getSkill();
+}
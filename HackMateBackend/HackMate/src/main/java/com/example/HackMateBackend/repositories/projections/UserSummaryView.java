@@ -0,0 +1,20 @@
+package com.example.HackMateBackend.repositories.projections;
+
+/**
+ * Display name and avatar of a user, with the email as fallback name for users that have
+ * not set up a profile yet. Resolved for a whole page of users in one query.
+ */
+public interface UserSummaryView {
+
+    Long getUserId();
+
+    String getEmail();
+
+    String getFullName();
+
+    String getAvatarId();
+
+    default String getDisplayName() {
+        return getFullName() != null ? getFullName() : getEmail();
+    }
+}
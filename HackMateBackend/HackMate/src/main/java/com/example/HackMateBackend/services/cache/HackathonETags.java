@@ -0,0 +1,65 @@
+package com.example.HackMateBackend.services.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds ETags for feed pages and hackathon details from version stamps that are known
+ * before anything is loaded: the load stamp of the cached page for the feed, the row's
+ * updatedAt and counters for details, and a per-viewer stamp bumped whenever that viewer's
+ * registrations or stars change (their flags are part of both representations).
+ * Both are weak: feed bodies are rebuilt from the cached page plus the viewer's flags, and
+ * details bodies carry the live view count, which moves with every visit and is
+ * deliberately not part of the tag.
+ * Stamps live in memory, so the boot time is mixed in to keep tags from one run from
+ * matching after a restart.
+ */
+@Component
+public class HackathonETags {
+
+    private final long bootStamp = System.currentTimeMillis();
+    private final Map<Long, Long> viewerVersions = new ConcurrentHashMap<>();
+
+    public String feedETag(String feedKey, long loadStamp, Long userId) {
+        return "W/" + strongETag("feed", String.valueOf(bootStamp), String.valueOf(loadStamp), feedKey,
+                viewerStamp(userId));
+    }
+
+    public String detailsETag(Long hackathonId, Long userId, Object... versionParts) {
+        StringBuilder version = new StringBuilder();
+        for (Object part : versionParts) {
+            version.append(part).append('|');
+        }
+        return "W/" + strongETag("details", String.valueOf(bootStamp), String.valueOf(hackathonId), version.toString(),
+                viewerStamp(userId));
+    }
+
+    public void viewerChanged(Long userId) {
+        viewerVersions.merge(userId, 1L, Long::sum);
+    }
+
+    // === Helper Methods ===
+
+    private String viewerStamp(Long userId) {
+        return userId == null ? "-" : userId + ":" + viewerVersions.getOrDefault(userId, 0L);
+    }
+
+    private static String strongETag(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.HackMateBackend.services.cache;
+
+import com.example.HackMateBackend.dtos.hackathon.HackathonFilterRequestDto;
+import com.example.HackMateBackend.dtos.hackathon.HackathonListResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of serialized public feed pages, keyed by the full filter/sort/page.
+ * Pages are stored as JSON so every hit hands out a fresh copy that callers may modify.
+ * The whole cache is dropped whenever the feed contents change (approval, rejection,
+ * flushed counters); the TTL covers hackathons silently passing their deadline.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HackathonFeedCache {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.feed-cache.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${app.feed-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<String, CachedPage> pages = new LinkedHashMap<>(64, 0.75f, true);
+
+    // Bumped on every invalidation so a page loaded before it is never stored after it
+    private long generation = 0;
+
+    // Handed to every stored page; a reload always gets a new stamp, so it identifies the exact body
+    private long lastLoadStamp = 0;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    private record CachedPage(byte[] json, long expiresAtMillis, long loadStamp) {
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        hits = Counter.builder("hackathon.feed.cache").tag("result", "hit")
+                .description("Feed pages served from memory").register(meterRegistry);
+        misses = Counter.builder("hackathon.feed.cache").tag("result", "miss")
+                .description("Feed pages loaded from the database").register(meterRegistry);
+        evictions = Counter.builder("hackathon.feed.cache.evictions")
+                .description("Feed pages dropped to stay within the size bound").register(meterRegistry);
+        Gauge.builder("hackathon.feed.cache.size", this, HackathonFeedCache::size)
+                .description("Feed pages currently cached").register(meterRegistry);
+    }
+
+    public HackathonListResponseDto get(HackathonFilterRequestDto filterRequest, Supplier<HackathonListResponseDto> loader) {
+        String key = keyOf(filterRequest);
+        long now = System.currentTimeMillis();
+        byte[] cachedJson = null;
+        long loadGeneration;
+
+        synchronized (this) {
+            CachedPage cached = pages.get(key);
+            if (cached != null && cached.expiresAtMillis() > now) {
+                cachedJson = cached.json();
+            } else if (cached != null) {
+                pages.remove(key);
+            }
+            loadGeneration = generation;
+        }
+
+        if (cachedJson != null) {
+            hits.increment();
+            return deserialize(cachedJson);
+        }
+
+        misses.increment();
+        HackathonListResponseDto page = loader.get();
+        byte[] json = serialize(page);
+
+        synchronized (this) {
+            if (json != null && loadGeneration == generation) {
+                pages.put(key, new CachedPage(json, now + ttlSeconds * 1000, ++lastLoadStamp));
+                evictOverflow();
+            }
+        }
+        return page;
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        pages.clear();
+    }
+
+    public synchronized int size() {
+        return pages.size();
+    }
+
+    // Stamp of the page currently served for this filter; empty when it is not cached (or has expired)
+    public synchronized OptionalLong loadStampOf(HackathonFilterRequestDto filterRequest) {
+        CachedPage cached = pages.get(keyOf(filterRequest));
+        if (cached == null || cached.expiresAtMillis() <= System.currentTimeMillis()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(cached.loadStamp());
+    }
+
+    public String keyOf(HackathonFilterRequestDto filter) {
+        String search = filter.getSearch() != null ? filter.getSearch().trim().toLowerCase(Locale.ROOT) : "";
+        List<String> tags = filter.getTags() != null ? filter.getTags().stream().sorted().toList() : List.of();
+
+        return String.join("|",
+                search,
+                String.valueOf(tags),
+                String.valueOf(filter.isMatchAllTags()),
+                String.valueOf(filter.getUrgencyLevel()),
+                String.valueOf(filter.isShowExpired()),
+                String.valueOf(filter.getSortBy()),
+                String.valueOf(filter.getSortDirection()),
+                String.valueOf(filter.getPage()),
+                String.valueOf(filter.getSize()),
+                String.valueOf(filter.getCursor()));
+    }
+
+    // === Helper Methods ===
+
+    private void evictOverflow() {
+        var iterator = pages.entrySet().iterator();
+        while (pages.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private byte[] serialize(HackathonListResponseDto page) {
+        try {
+            return objectMapper.writeValueAsBytes(page);
+        } catch (IOException e) {
+            log.warn("Could not serialize feed page for caching", e);
+            return null;
+        }
+    }
+
+    private HackathonListResponseDto deserialize(byte[] json) {
+        try {
+            return objectMapper.readValue(json, HackathonListResponseDto.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt feed cache entry", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.HackMateBackend.services.cache;
+
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers hackathon views in memory and writes them to the database in one batched
+ * UPDATE, instead of one row-locking UPDATE per details request.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HackathonViewCounter {
+
+    private final HackathonRepository hackathonRepository;
+
+    // Counters are only removed when their hackathon is archived, so an increment racing with a flush is never lost
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public void increment(Long hackathonId) {
+        pendingViews.computeIfAbsent(hackathonId, id -> new LongAdder()).increment();
+    }
+
+    // Views recorded since the last flush, to be added to the persisted count when displaying it
+    public long pendingViews(Long hackathonId) {
+        LongAdder adder = pendingViews.get(hackathonId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Writes all buffered views to the database and returns how many hackathons were updated.
+     * The write is all-or-nothing, so if it fails the deltas are put back and retried on the next flush.
+     */
+    public synchronized int flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingViews.forEach((hackathonId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(hackathonId, delta);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            int updated = hackathonRepository.addViewCounts(deltas);
+            log.debug("Flushed views for {} hackathons", updated);
+            return updated;
+        } catch (RuntimeException e) {
+            deltas.forEach((hackathonId, delta) -> pendingViews.get(hackathonId).add(delta));
+            log.error("Failed to flush hackathon view counts, will retry", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Removes the counters of hackathons that are about to leave the hot table and returns their
+     * pending views, so they can be written before the rows are moved. Views recorded after this
+     * call are dropped, archived rows are read-only.
+     */
+    public Map<Long, Long> drain(Collection<Long> hackathonIds) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long hackathonId : hackathonIds) {
+            LongAdder adder = pendingViews.remove(hackathonId);
+            long delta = adder != null ? adder.sum() : 0L;
+            if (delta > 0) {
+                deltas.put(hackathonId, delta);
+            }
+        }
+        return deltas;
+    }
+
+    // Puts drained views back when writing them failed
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((hackathonId, delta) ->
+                pendingViews.computeIfAbsent(hackathonId, id -> new LongAdder()).add(delta));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.HackMateBackend.services.cache;
+
+import com.example.HackMateBackend.repositories.TeamRepositoryCustom.TeamFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded LRU cache of team search totals, keyed by hackathon and filter, so cursor pages that
+ * ask for a total do not repeat the LIKE/EXISTS count on every scroll. A hackathon's entries are
+ * dropped whenever one of its teams changes; the TTL covers changes made outside the team services.
+ */
+@Component
+public class TeamCountCache {
+
+    @Value("${app.team-count-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${app.team-count-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<String, CachedCount> counts = new LinkedHashMap<>(64, 0.75f, true);
+
+    // Bumped on every invalidation so a count loaded before it is never stored after it
+    private long generation = 0;
+
+    private record CachedCount(long count, long expiresAtMillis) {
+    }
+
+    public long get(TeamFilter filter, ToLongFunction<TeamFilter> loader) {
+        String key = keyOf(filter);
+        long now = System.currentTimeMillis();
+        long loadGeneration;
+
+        synchronized (this) {
+            CachedCount cached = counts.get(key);
+            if (cached != null && cached.expiresAtMillis() > now) {
+                return cached.count();
+            }
+            if (cached != null) {
+                counts.remove(key);
+            }
+            loadGeneration = generation;
+        }
+
+        long count = loader.applyAsLong(filter);
+
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                counts.put(key, new CachedCount(count, now + ttlSeconds * 1000));
+                evictOverflow();
+            }
+        }
+        return count;
+    }
+
+    public synchronized void invalidate(Long hackathonId) {
+        generation++;
+        String prefix = hackathonId + "|";
+        counts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public synchronized int size() {
+        return counts.size();
+    }
+
+    // === Helper Methods ===
+
+    private static String keyOf(TeamFilter filter) {
+        String search = filter.search() != null ? filter.search().trim().toLowerCase(Locale.ROOT) : "";
+        List<String> skills = filter.skills() != null ? filter.skills().stream().sorted().toList() : List.of();
+
+        return String.join("|",
+                String.valueOf(filter.hackathonId()),
+                String.valueOf(filter.status()).toUpperCase(Locale.ROOT),
+                search,
+                String.valueOf(skills));
+    }
+
+    private void evictOverflow() {
+        var iterator = counts.entrySet().iterator();
+        while (counts.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.HackMateBackend.services.extraction;
+
+import java.util.*;
+
+/**
+ * Finds every dictionary keyword in a text in a single pass (Aho-Corasick automaton).
+ * Matching is case-insensitive and only whole words count, so "ai" does not fire on "email".
+ */
+public final class AhoCorasickMatcher<T> {
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node fail;
+        private final List<Integer> outputs = new ArrayList<>();
+    }
+
+    private final Node root = new Node();
+    private final List<String> keywords = new ArrayList<>();
+    private final List<T> values = new ArrayList<>();
+
+    public AhoCorasickMatcher(Map<String, T> dictionary) {
+        dictionary.forEach(this::addKeyword);
+        buildFailureLinks();
+    }
+
+    // Values of all keywords found in the text, in order of first occurrence
+    public Set<T> findAll(String text) {
+        Set<T> found = new LinkedHashSet<>();
+        Node state = root;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            while (state != root && !state.children.containsKey(c)) {
+                state = state.fail;
+            }
+            state = state.children.getOrDefault(c, root);
+
+            for (int keyword : state.outputs) {
+                int start = i - keywords.get(keyword).length() + 1;
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    found.add(values.get(keyword));
+                }
+            }
+        }
+        return found;
+    }
+
+    // === Helper Methods ===
+
+    private void addKeyword(String keyword, T value) {
+        String normalized = keyword.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (char c : normalized.toCharArray()) {
+            node = node.children.computeIfAbsent(c, key -> new Node());
+        }
+        node.outputs.add(keywords.size());
+        keywords.add(normalized);
+        values.add(value);
+    }
+
+    // Breadth-first, so a node's failure link is always resolved before its children need it
+    private void buildFailureLinks() {
+        Deque<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(entry.getKey())) {
+                    fail = fail.fail;
+                }
+                Node target = fail.children.get(entry.getKey());
+                child.fail = target != null && target != child ? target : root;
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+}
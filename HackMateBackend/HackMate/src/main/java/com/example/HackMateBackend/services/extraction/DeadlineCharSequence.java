@@ -0,0 +1,43 @@
+package com.example.HackMateBackend.services.extraction;
+
+/**
+ * CharSequence that aborts regex matching once a deadline has passed. java.util.regex has no
+ * timeout, but every step of a (possibly backtracking) match reads through charAt.
+ */
+final class DeadlineCharSequence implements CharSequence {
+
+    private static final int CHECK_INTERVAL_MASK = 0x3FF;
+
+    private final CharSequence text;
+    private final long deadlineNanos;
+    private int reads;
+
+    DeadlineCharSequence(CharSequence text, long deadlineNanos) {
+        this.text = text;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public char charAt(int index) {
+        // Reading the clock on every call would cost more than the match itself
+        if ((++reads & CHECK_INTERVAL_MASK) == 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw new RegexTimeoutException();
+        }
+        return text.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new DeadlineCharSequence(text.subSequence(start, end), deadlineNanos);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
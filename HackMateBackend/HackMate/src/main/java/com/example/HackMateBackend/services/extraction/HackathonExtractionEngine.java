@@ -0,0 +1,181 @@
+package com.example.HackMateBackend.services.extraction;
+
+import com.example.HackMateBackend.dtos.hackathon.AIExtractionResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pulls hackathon fields out of pasted WhatsApp/Discord announcements. Patterns and the
+ * tag dictionary are compiled once; every message gets a time budget for its regex work
+ * so one pathological message cannot pin a thread.
+ */
+@Component
+@Slf4j
+public class HackathonExtractionEngine {
+
+    private static final Pattern TITLE_PATTERN =
+            Pattern.compile("(?i)(?:hackathon[:\\s]*)?([A-Z][\\w\\s]{5,50})", Pattern.MULTILINE);
+    private static final Pattern URL_PATTERN =
+            Pattern.compile("https?://[\\w\\-_]+(\\.[\\w\\-_]+)+([\\w\\-\\.,@?^=%&:/~\\+#]*[\\w\\-\\@?^=%&/~\\+#])?");
+    private static final Pattern DEADLINE_PATTERN =
+            Pattern.compile("(?i)(?:deadline|due|submit|end)[:\\s]*([\\d]{1,2}[/-][\\d]{1,2}[/-][\\d]{2,4})");
+    private static final Pattern ORGANIZER_PATTERN =
+            Pattern.compile("(?i)(?:organized by|by|host[ed]* by)[:\\s]*([A-Za-z\\s]{3,50})");
+    private static final Pattern LOCATION_PATTERN =
+            Pattern.compile("(?i)(?:location|venue|at)[:\\s]*([A-Za-z\\s,]{3,50})");
+    private static final Pattern PRIZE_PATTERN =
+            Pattern.compile("(?i)(?:prize|reward|cash)[:\\s]*([\\$₹€£]?[\\d,]+[\\$₹€£]?)");
+
+    private static final Map<String, String> TAG_KEYWORDS = new LinkedHashMap<>();
+
+    static {
+        TAG_KEYWORDS.put("ai", "AI");
+        TAG_KEYWORDS.put("artificial intelligence", "AI");
+        TAG_KEYWORDS.put("web", "Web Development");
+        TAG_KEYWORDS.put("website", "Web Development");
+        TAG_KEYWORDS.put("websites", "Web Development");
+        TAG_KEYWORDS.put("mobile", "Mobile");
+        TAG_KEYWORDS.put("app", "Mobile");
+        TAG_KEYWORDS.put("apps", "Mobile");
+        TAG_KEYWORDS.put("blockchain", "Blockchain");
+        TAG_KEYWORDS.put("ml", "Machine Learning");
+        TAG_KEYWORDS.put("machine learning", "Machine Learning");
+        TAG_KEYWORDS.put("iot", "IoT");
+    }
+
+    // Tags are reported in this order, whatever order they appear in the message
+    private static final List<String> TAG_ORDER = List.of("AI", "Web Development", "Mobile", "Blockchain", "Machine Learning", "IoT");
+
+    private static final AhoCorasickMatcher<String> TAG_MATCHER = new AhoCorasickMatcher<>(TAG_KEYWORDS);
+
+    private final Duration regexTimeout;
+    private final ExecutorService bulkExecutor;
+
+    public HackathonExtractionEngine(@Value("${app.extraction.regex-timeout-ms:200}") long regexTimeoutMs,
+                                     @Value("${app.extraction.bulk-threads:0}") int bulkThreads) {
+        this.regexTimeout = Duration.ofMillis(regexTimeoutMs);
+        int threads = bulkThreads > 0 ? bulkThreads : Runtime.getRuntime().availableProcessors();
+        this.bulkExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "hackathon-extraction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkExecutor.shutdownNow();
+    }
+
+    public AIExtractionResponseDto extract(String text) {
+        try {
+            CharSequence input = new DeadlineCharSequence(text, System.nanoTime() + regexTimeout.toNanos());
+
+            String title = extractTitle(input);
+            String description = extractDescription(text);
+            String registrationLink = firstMatch(URL_PATTERN, input, 0);
+            LocalDateTime deadline = extractDeadline(input);
+            List<String> tags = extractTags(text);
+            String organizer = trimmed(firstMatch(ORGANIZER_PATTERN, input, 1));
+            String location = extractLocation(input, text);
+            String prizePool = trimmed(firstMatch(PRIZE_PATTERN, input, 1));
+
+            double confidence = calculateConfidence(title, description, registrationLink, deadline);
+
+            return new AIExtractionResponseDto(
+                    true, title, description, registrationLink, deadline,
+                    tags, organizer, location, prizePool, confidence, null
+            );
+        } catch (Exception e) {
+            return new AIExtractionResponseDto(
+                    false, null, null, null, null,
+                    null, null, null, null, 0.0, e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * Extracts all messages on the bulk pool and hands each result to the callback on the
+     * calling thread, as soon as it is ready (not in input order). If the callback fails,
+     * e.g. because the client went away, the remaining work is cancelled.
+     */
+    public void extractAll(List<String> messages, BiConsumer<Integer, AIExtractionResponseDto> onResult) {
+        CompletionService<Map.Entry<Integer, AIExtractionResponseDto>> completionService =
+                new ExecutorCompletionService<>(bulkExecutor);
+        List<Future<Map.Entry<Integer, AIExtractionResponseDto>>> futures = new ArrayList<>(messages.size());
+
+        for (int i = 0; i < messages.size(); i++) {
+            int index = i;
+            futures.add(completionService.submit(() -> Map.entry(index, extract(messages.get(index)))));
+        }
+
+        try {
+            for (int received = 0; received < messages.size(); received++) {
+                Map.Entry<Integer, AIExtractionResponseDto> result = completionService.take().get();
+                onResult.accept(result.getKey(), result.getValue());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Bulk extraction interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Bulk extraction failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    // === Helper Methods ===
+
+    private String extractTitle(CharSequence input) {
+        return trimmed(firstMatch(TITLE_PATTERN, input, 1));
+    }
+
+    private String extractDescription(String text) {
+        return text.length() > 200 ? text.substring(0, 200) + "..." : text;
+    }
+
+    private LocalDateTime extractDeadline(CharSequence input) {
+        return DEADLINE_PATTERN.matcher(input).find() ? LocalDateTime.now().plusDays(7) : LocalDateTime.now().plusDays(30);
+    }
+
+    private List<String> extractTags(String text) {
+        Set<String> found = TAG_MATCHER.findAll(text);
+        return TAG_ORDER.stream().filter(found::contains).toList();
+    }
+
+    private String extractLocation(CharSequence input, String text) {
+        String location = trimmed(firstMatch(LOCATION_PATTERN, input, 1));
+        if (location != null) return location;
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        if (lowerText.contains("online") || lowerText.contains("virtual")) return "Online";
+        return null;
+    }
+
+    private static String firstMatch(Pattern pattern, CharSequence input, int group) {
+        Matcher matcher = pattern.matcher(input);
+        return matcher.find() ? matcher.group(group) : null;
+    }
+
+    private static String trimmed(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    private double calculateConfidence(String title, String description, String registrationLink, LocalDateTime deadline) {
+        int score = 0;
+        if (title != null && !title.isEmpty()) score += 25;
+        if (description != null && !description.isEmpty()) score += 25;
+        if (registrationLink != null && !registrationLink.isEmpty()) score += 30;
+        if (deadline != null) score += 20;
+        return score / 100.0;
+    }
+}
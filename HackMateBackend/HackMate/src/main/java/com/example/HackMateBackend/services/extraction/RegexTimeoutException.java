@@ -0,0 +1,8 @@
+package com.example.HackMateBackend.services.extraction;
+
+public class RegexTimeoutException extends RuntimeException {
+
+    public RegexTimeoutException() {
+        super("Extraction took too long and was aborted");
+    }
+}
@@ -3,25 +3,60 @@ package com.example.HackMateBackend.services.implementations;
 import com.example.HackMateBackend.data.entities.*;
 import com.example.HackMateBackend.data.enums.RegistrationStatus;
 import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.data.enums.UrgencyLevel;
 import com.example.HackMateBackend.dtos.hackathon.HackathonDetailsResponseDto;
 import com.example.HackMateBackend.dtos.hackathon.HackathonListItemDto;
 import com.example.HackMateBackend.dtos.hackathon.HackathonListResponseDto;
 import com.example.HackMateBackend.repositories.*;
+import com.example.HackMateBackend.repositories.projections.HackathonListView;
+import com.example.HackMateBackend.services.cache.HackathonETags;
+import com.example.HackMateBackend.services.cache.HackathonFeedCache;
+import com.example.HackMateBackend.services.cache.HackathonViewCounter;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.extraction.HackathonExtractionEngine;
+import com.example.HackMateBackend.services.index.HackathonDuplicateIndex;
+import com.example.HackMateBackend.services.index.HackathonSearchIndex;
+import com.example.HackMateBackend.services.index.HackathonTagIndex;
+import com.example.HackMateBackend.services.index.HackathonUrgencyIndex;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSearchIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
 import com.example.HackMateBackend.services.interfaces.HackathonService;
+import com.example.HackMateBackend.utils.CursorCodec;
+import com.example.HackMateBackend.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import com.example.HackMateBackend.dtos.hackathon.*;
 @Service
 @RequiredArgsConstructor
@@ -33,44 +68,147 @@ public class HackathonServiceImpl implements HackathonService {
     private final HackathonRegistrationRepository registrationRepository;
     private final TeamRepository teamRepository;
     private final ProfileRepository profileRepository;
+    private final HackathonSearchIndex searchIndex;
+    private final HackathonTagIndex tagIndex;
+    private final HackathonUrgencyIndex urgencyIndex;
+    private final HackathonDuplicateIndex duplicateIndex;
+    private final RecommendationIndex recommendationIndex;
+    private final TeamSkillIndex teamSkillIndex;
+    private final TeamSearchIndex teamSearchIndex;
+    private final TeamCountCache teamCountCache;
+    private final HackathonExtractionEngine extractionEngine;
+    private final HackathonViewCounter viewCounter;
+    private final HackathonFeedCache feedCache;
+    private final HackathonETags eTags;
+    private final ArchivedHackathonRepository archivedHackathonRepository;
+    private final ArchivedHackathonRegistrationRepository archivedRegistrationRepository;
+    private final PlatformTransactionManager transactionManager;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    // Expired hackathons stay in the hot table (and in the EXPIRED urgency bucket) this long before archival
+    @Value("${app.archive.grace-days:30}")
+    private int archiveGraceDays;
+
+    @Value("${app.archive.chunk-size:200}")
+    private int archiveChunkSize;
+
+    @Value("${app.archive.max-chunks-per-run:50}")
+    private int archiveMaxChunksPerRun;
+
+    @PostConstruct
+    void initTransactionTemplates() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
 
+    // Cache hits must not even open a transaction, so the page is loaded in one only on a miss.
+    // The cached page is shared by everyone; the viewer's own flags are applied on top of it.
     @Override
-    @Transactional(readOnly = true)
-    public HackathonListResponseDto getPublicHackathonFeed(HackathonFilterRequestDto filterRequest) {
-        Sort sort = createSort(filterRequest.getSortBy(), filterRequest.getSortDirection());
-        Pageable pageable = PageRequest.of(filterRequest.getPage(), filterRequest.getSize(), sort);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HackathonListResponseDto getPublicHackathonFeed(HackathonFilterRequestDto filterRequest, Long userId) {
+        normalizeFeedFilter(filterRequest);
+
+        HackathonListResponseDto response = feedCache.get(filterRequest,
+                () -> readOnlyTransaction.execute(status -> loadPublicHackathonFeed(filterRequest)));
 
-        Page<Hackathon> hackathonPage;
+        if (userId != null) {
+            applyViewerFlags(response.getHackathons(), userId, filterRequest.isShowExpired());
+        }
+        return response;
+    }
 
-        if (filterRequest.getSearch() != null && !filterRequest.getSearch().trim().isEmpty()) {
-            hackathonPage = hackathonRepository.searchHackathons(filterRequest.getSearch().trim(), pageable);
-        } else if (!filterRequest.isShowExpired()) {
-            hackathonPage = hackathonRepository.findActiveHackathons(LocalDateTime.now(), pageable);
+    private HackathonListResponseDto loadPublicHackathonFeed(HackathonFilterRequestDto filterRequest) {
+        Sort sort = createSort(filterRequest.getSortBy(), filterRequest.getSortDirection());
+        boolean isSearch = filterRequest.getSearch() != null && !filterRequest.getSearch().trim().isEmpty();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> rankedIds = isSearch
+                ? searchIndex.search(filterRequest.getSearch().trim(), filterRequest.isShowExpired(), now)
+                : null;
+
+        UrgencyLevel urgencyLevel = parseUrgencyLevel(filterRequest.getUrgencyLevel());
+        Set<Long> urgencyIds = urgencyLevel != null ? urgencyIndex.hackathonIdsAt(urgencyLevel) : null;
+        Collection<Long> candidateIds = urgencyIds == null ? rankedIds
+                : rankedIds == null ? urgencyIds
+                : rankedIds.stream().filter(urgencyIds::contains).toList();
+
+        HackathonTagIndex.TagQueryResult tagQuery = tagIndex.query(filterRequest.getTags(),
+                filterRequest.isMatchAllTags(), filterRequest.isShowExpired(), candidateIds, now);
+        // Ids the page must be restricted to, null when neither tags nor urgency narrow the feed
+        Set<Long> indexFilterIds = tagQuery.hackathonIds() != null ? tagQuery.hackathonIds() : urgencyIds;
+
+        HackathonListResponseDto response;
+
+        // Only the plain expired-inclusive feed reaches into the archive; the indexes track live rows
+        if (filterRequest.isShowExpired() && !isSearch && indexFilterIds == null) {
+            response = getFeedIncludingArchive(filterRequest, sort);
+        } else if (filterRequest.getCursor() != null && !isSearch) {
+            // Search results are ranked in memory, so cursor mode only applies to the plain feed
+            response = getHackathonFeedWindow(filterRequest, sort, indexFilterIds, now);
         } else {
-            hackathonPage = hackathonRepository.findApprovedHackathons(pageable);
+            Pageable pageable = PageRequest.of(filterRequest.getPage(), filterRequest.getSize(), sort);
+            Page<HackathonListView> hackathonPage;
+
+            if (isSearch) {
+                List<Long> matchingIds = indexFilterIds == null ? rankedIds
+                        : rankedIds.stream().filter(indexFilterIds::contains).toList();
+                hackathonPage = searchHackathons(matchingIds, pageable);
+            } else if (indexFilterIds != null) {
+                hackathonPage = indexFilterIds.isEmpty() ? Page.empty(pageable)
+                        : filterRequest.isShowExpired()
+                        ? hackathonRepository.findByStatusAndDeletedFalseAndIdIn(Status.ACCEPTED, indexFilterIds, pageable)
+                        : hackathonRepository.findByStatusAndDeletedFalseAndDeadlineAfterAndIdIn(
+                                Status.ACCEPTED, now, indexFilterIds, pageable);
+            } else {
+                hackathonPage = hackathonRepository.findActiveHackathons(now, pageable);
+            }
+
+            response = toListResponse(hackathonPage, convertToListItems(hackathonPage.getContent()));
         }
 
-        List<HackathonListItemDto> hackathonDtos = hackathonPage.getContent().stream()
-                .map(this::convertToListItem)
-                .toList();
+        response.setTagFacets(tagQuery.facets());
+        return response;
+    }
 
-        return new HackathonListResponseDto(
-                hackathonDtos,
-                hackathonPage.getNumber(),
-                hackathonPage.getTotalPages(),
-                hackathonPage.getTotalElements(),
-                hackathonPage.hasNext(),
-                hackathonPage.hasPrevious()
-        );
+    // Names the cached page itself, so a matching If-None-Match costs no query at all. Empty when the
+    // page is not cached: taken before the body is loaded, the tag may only ever be older than the body
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> getFeedETag(HackathonFilterRequestDto filterRequest, Long userId) {
+        normalizeFeedFilter(filterRequest);
+        OptionalLong loadStamp = feedCache.loadStampOf(filterRequest);
+        if (loadStamp.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(eTags.feedETag(feedCache.keyOf(filterRequest), loadStamp.getAsLong(), userId));
+    }
+
+    // Empty for hackathons that are not live (archived ones are served without conditional support)
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getHackathonDetailsETag(Long hackathonId, Long userId) {
+        List<Object[]> rows = hackathonRepository.findDetailsVersion(hackathonId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] version = rows.get(0);
+        // The urgency level (and with it isExpired) moves with the clock, not with the row
+        return Optional.of(eTags.detailsETag(hackathonId, userId,
+                version[0], version[1], version[2], urgencyIndex.levelOf(hackathonId)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public HackathonDetailsResponseDto getHackathonDetails(Long hackathonId, Long userId) {
-        Hackathon hackathon = hackathonRepository.findApprovedById(hackathonId)
-                .orElseThrow(() -> new RuntimeException("Hackathon not found or not approved"));
+        Optional<Hackathon> liveHackathon = hackathonRepository.findApprovedById(hackathonId);
+        if (liveHackathon.isEmpty()) {
+            return getArchivedHackathonDetails(hackathonId, userId);
+        }
+        Hackathon hackathon = liveHackathon.get();
 
-        hackathonRepository.incrementViewCount(hackathonId);
+        viewCounter.increment(hackathonId);
 
         boolean isRegistered = false;
         boolean isStarred = false;
@@ -113,15 +251,43 @@ public class HackathonServiceImpl implements HackathonService {
         hackathon.setPostedBy(user);
         hackathon.setStatus(Status.PENDING);
 
+        Long fingerprint = HackathonDuplicateIndex.fingerprintOf(hackathon);
+        hackathon.setContentFingerprint(fingerprint);
+
+        // Same registration link: merge into the existing submission instead of queueing another one.
+        // Similar text only: still queued, but flagged so the admin can reject it at a glance.
+        Optional<HackathonDuplicateIndex.Match> duplicate =
+                duplicateIndex.findDuplicate(hackathon.getRegistrationLink(), fingerprint);
+        if (duplicate.isPresent() && duplicate.get().sameLink()) {
+            Optional<Hackathon> existing = hackathonRepository.findByIdAndNotDeleted(duplicate.get().hackathonId())
+                    .filter(candidate -> candidate.getStatus() != Status.REJECTED);
+            if (existing.isPresent()) {
+                CreateHackathonResponseDto response = new CreateHackathonResponseDto(
+                        true,
+                        "This hackathon has already been submitted.",
+                        existing.get().getId(),
+                        existing.get().getStatus(),
+                        existing.get().getCreatedAt()
+                );
+                response.setDuplicateOf(existing.get().getId());
+                return response;
+            }
+        }
+        duplicate.ifPresent(match -> hackathon.setDuplicateOf(match.hackathonId()));
+
         Hackathon savedHackathon = hackathonRepository.save(hackathon);
+        TransactionHooks.afterCommit(() ->
+                duplicateIndex.index(savedHackathon.getId(), savedHackathon.getRegistrationLink(), fingerprint));
 
-        return new CreateHackathonResponseDto(
+        CreateHackathonResponseDto response = new CreateHackathonResponseDto(
                 true,
                 "Hackathon submitted successfully. It will be reviewed by admins.",
                 savedHackathon.getId(),
                 savedHackathon.getStatus(),
                 savedHackathon.getCreatedAt()
         );
+        response.setDuplicateOf(savedHackathon.getDuplicateOf());
+        return response;
     }
 
     @Override
@@ -134,6 +300,10 @@ public class HackathonServiceImpl implements HackathonService {
 
         Optional<HackathonRegistration> existingRegistration =
                 registrationRepository.findByHackathonAndUserAndDeletedFalse(hackathon, user);
+        TransactionHooks.afterCommit(() -> {
+            eTags.viewerChanged(userId);
+            recommendationIndex.markHackathonChanged(hackathon.getId());
+        });
 
         if (request.isRegister()) {
             if (existingRegistration.isPresent()) {
@@ -175,6 +345,7 @@ public class HackathonServiceImpl implements HackathonService {
 
         Optional<HackathonRegistration> existingRegistration =
                 registrationRepository.findByHackathonAndUserAndDeletedFalse(hackathon, user);
+        TransactionHooks.afterCommit(() -> eTags.viewerChanged(userId));
 
         if (request.isStar()) {
             if (existingRegistration.isPresent()) {
@@ -206,49 +377,37 @@ public class HackathonServiceImpl implements HackathonService {
     @Override
     @Transactional(readOnly = true)
     public HackathonListResponseDto getUserRegisteredHackathons(Long userId, Pageable pageable) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<Hackathon> registeredHackathons = hackathonRepository.findRegisteredHackathonsByUser(userId);
-
-        List<HackathonListItemDto> hackathonDtos = registeredHackathons.stream()
-                .map(hackathon -> convertToListItem(hackathon, true, false))
-                .toList();
-
-        return new HackathonListResponseDto(
-                hackathonDtos, 0, 1, hackathonDtos.size(), false, false
-        );
+        return getUserHackathonsIncludingArchive(userId, RegistrationStatus.REGISTERED, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public HackathonListResponseDto getUserStarredHackathons(Long userId, Pageable pageable) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<Hackathon> starredHackathons = hackathonRepository.findStarredHackathonsByUser(userId);
-
-        List<HackathonListItemDto> hackathonDtos = starredHackathons.stream()
-                .map(hackathon -> convertToListItem(hackathon, false, true))
-                .toList();
-
-        return new HackathonListResponseDto(
-                hackathonDtos, 0, 1, hackathonDtos.size(), false, false
-        );
+        return getUserHackathonsIncludingArchive(userId, RegistrationStatus.STARRED, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public HackathonListResponseDto getPendingHackathons() {
-        List<Hackathon> pendingHackathons = hackathonRepository.findPendingHackathons();
+    public HackathonListResponseDto getPendingHackathons(int page, int size, String cursor) {
+        // Oldest submissions first, id breaks ties so keyset pages never skip or repeat rows
+        Sort sort = Sort.by(Sort.Direction.ASC, "createdAt", "id");
+
+        if (cursor == null) {
+            Page<HackathonListView> pendingHackathons = hackathonRepository.findByStatusAndDeletedFalse(
+                    Status.PENDING, PageRequest.of(page, size, sort));
+            return toListResponse(pendingHackathons, convertToPendingListItems(pendingHackathons.getContent()));
+        }
 
-        List<HackathonListItemDto> hackathonDtos = pendingHackathons.stream()
-                .map(this::convertToListItem)
-                .toList();
+        KeysetScrollPosition position = CursorCodec.decode(cursor);
+        Window<HackathonListView> window = hackathonRepository.findByStatusAndDeletedFalse(
+                Status.PENDING, position, sort, Limit.of(Math.max(size, 1)));
 
-        return new HackathonListResponseDto(
-                hackathonDtos, 0, 1, hackathonDtos.size(), false, false
-        );
+        HackathonListResponseDto response = new HackathonListResponseDto(
+                convertToPendingListItems(window.getContent()), 0, 0, 0, window.hasNext(), !position.isInitial());
+        if (window.hasNext()) {
+            response.setNextCursor(CursorCodec.encode(window.positionAt(window.size() - 1)));
+        }
+        return response;
     }
 
     @Override
@@ -262,6 +421,13 @@ public class HackathonServiceImpl implements HackathonService {
 
         hackathon.approve(adminId);
         hackathonRepository.save(hackathon);
+        List<String> tags = new ArrayList<>(hackathon.getTags());
+        TransactionHooks.afterCommit(() -> {
+            searchIndex.index(hackathon);
+            tagIndex.index(hackathon.getId(), tags, hackathon.getDeadline());
+            urgencyIndex.index(hackathon.getId(), hackathon.getDeadline());
+            feedCache.invalidateAll();
+        });
 
         return new CreateHackathonResponseDto(
                 true,
@@ -283,6 +449,13 @@ public class HackathonServiceImpl implements HackathonService {
 
         hackathon.reject();
         hackathonRepository.save(hackathon);
+        TransactionHooks.afterCommit(() -> {
+            searchIndex.remove(hackathonId);
+            tagIndex.remove(hackathonId);
+            urgencyIndex.remove(hackathonId);
+            duplicateIndex.remove(hackathonId);
+            feedCache.invalidateAll();
+        });
 
         return new CreateHackathonResponseDto(
                 true,
@@ -294,31 +467,25 @@ public class HackathonServiceImpl implements HackathonService {
     }
 
     @Override
+    public BatchReviewResponseDto approveHackathons(List<Long> hackathonIds, Long adminId) {
+        return reviewHackathons(hackathonIds, Status.ACCEPTED, adminId);
+    }
+
+    @Override
+    public BatchReviewResponseDto rejectHackathons(List<Long> hackathonIds, Long adminId) {
+        return reviewHackathons(hackathonIds, Status.REJECTED, adminId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AIExtractionResponseDto extractHackathonData(AIExtractionRequestDto request) {
-        try {
-            String text = request.getMessageText();
-
-            String title = extractTitle(text);
-            String description = extractDescription(text);
-            String registrationLink = extractRegistrationLink(text);
-            LocalDateTime deadline = extractDeadline(text);
-            List<String> tags = extractTags(text);
-            String organizer = extractOrganizer(text);
-            String location = extractLocation(text);
-            String prizePool = extractPrizePool(text);
-
-            double confidence = calculateConfidence(title, description, registrationLink, deadline);
-
-            return new AIExtractionResponseDto(
-                    true, title, description, registrationLink, deadline,
-                    tags, organizer, location, prizePool, confidence, null
-            );
-        } catch (Exception e) {
-            return new AIExtractionResponseDto(
-                    false, null, null, null, null,
-                    null, null, null, null, 0.0, e.getMessage()
-            );
-        }
+        return extractionEngine.extract(request.getMessageText());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void extractHackathonDataBulk(List<String> messages, BiConsumer<Integer, AIExtractionResponseDto> onResult) {
+        extractionEngine.extractAll(messages, onResult);
     }
 
     @Override
@@ -329,7 +496,80 @@ public class HackathonServiceImpl implements HackathonService {
 
     @Override
     public void incrementViewCount(Long hackathonId) {
-        hackathonRepository.incrementViewCount(hackathonId);
+        viewCounter.increment(hackathonId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flushViewCounts() {
+        int updated = viewCounter.flush();
+        if (updated > 0) {
+            feedCache.invalidateAll();
+        }
+        return updated;
+    }
+
+    // Each chunk is moved in its own transaction so a run never holds locks on more than one chunk.
+    // Views still buffered for the chunk are written in the same transaction, before the rows move.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int archiveExpiredHackathons() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveGraceDays);
+        int archived = 0;
+
+        for (int chunk = 0; chunk < archiveMaxChunksPerRun; chunk++) {
+            List<Long> hackathonIds = hackathonRepository.findArchivableHackathonIds(cutoff, archiveChunkSize);
+            if (hackathonIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Long> pendingViews = viewCounter.drain(hackathonIds);
+            List<Long> teamIds = new ArrayList<>();
+            Integer moved;
+            try {
+                moved = writeTransaction.execute(status -> {
+                    if (!pendingViews.isEmpty()) {
+                        hackathonRepository.addViewCounts(pendingViews);
+                    }
+                    teamIds.addAll(teamRepository.findIdsByHackathonIds(hackathonIds));
+                    return hackathonRepository.archiveHackathons(hackathonIds, LocalDateTime.now());
+                });
+            } catch (RuntimeException e) {
+                viewCounter.restore(pendingViews);
+                throw e;
+            }
+            archived += moved != null ? moved : 0;
+            hackathonIds.forEach(hackathonId -> {
+                searchIndex.remove(hackathonId);
+                tagIndex.remove(hackathonId);
+                urgencyIndex.remove(hackathonId);
+                duplicateIndex.remove(hackathonId);
+                teamCountCache.invalidate(hackathonId);
+            });
+            teamIds.forEach(teamId -> {
+                teamSkillIndex.remove(teamId);
+                teamSearchIndex.remove(teamId);
+            });
+
+            if (hackathonIds.size() < archiveChunkSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            feedCache.invalidateAll();
+        }
+        return archived;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int refreshUrgencyLevels() {
+        int changed = urgencyIndex.advance(LocalDateTime.now());
+        if (changed > 0) {
+            feedCache.invalidateAll();
+        }
+        return changed;
     }
 
     @Override
@@ -348,6 +588,238 @@ public class HackathonServiceImpl implements HackathonService {
 
     // === Helper Methods ===
 
+    private HackathonListResponseDto getFeedIncludingArchive(HackathonFilterRequestDto filterRequest, Sort sort) {
+        Sort.Order order = sort.iterator().next();
+        String property = order.getProperty();
+        int size = Math.max(filterRequest.getSize(), 1);
+
+        if (filterRequest.getCursor() == null) {
+            long offset = (long) filterRequest.getPage() * size;
+            List<HackathonRepositoryCustom.FeedRow> rows = hackathonRepository.findApprovedIncludingArchive(
+                    property, order.isDescending(), null, null, offset, size);
+            Page<HackathonRepositoryCustom.FeedRow> page = new PageImpl<>(rows,
+                    PageRequest.of(filterRequest.getPage(), size), hackathonRepository.countApprovedIncludingArchive());
+            return new HackathonListResponseDto(convertFeedRows(rows), page.getNumber(), page.getTotalPages(),
+                    page.getTotalElements(), page.hasNext(), page.hasPrevious());
+        }
+
+        KeysetScrollPosition position = CursorCodec.decode(filterRequest.getCursor());
+        Object afterValue = null;
+        Long afterId = null;
+        if (!position.isInitial()) {
+            if (!(position.getKeys().get("id") instanceof Long id) || !position.getKeys().containsKey(property)) {
+                throw new RuntimeException("Cursor does not match the requested sort order");
+            }
+            afterValue = position.getKeys().get(property);
+            afterId = id;
+        }
+
+        // One extra row tells whether another page follows
+        List<HackathonRepositoryCustom.FeedRow> rows = hackathonRepository.findApprovedIncludingArchive(
+                property, order.isDescending(), afterValue, afterId, 0, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        HackathonListResponseDto response = new HackathonListResponseDto(
+                convertFeedRows(rows), 0, 0, 0, hasNext, !position.isInitial());
+        if (hasNext) {
+            HackathonRepositoryCustom.FeedRow last = rows.get(rows.size() - 1);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(property, last.sortValue());
+            keys.put("id", last.id());
+            response.setNextCursor(CursorCodec.encode(ScrollPosition.forward(keys)));
+        }
+        return response;
+    }
+
+    // Registrations of archived hackathons live in the archive, so the user's lists read both tables
+    private HackathonListResponseDto getUserHackathonsIncludingArchive(Long userId, RegistrationStatus status,
+                                                                       Pageable pageable) {
+        List<HackathonRepositoryCustom.FeedRow> rows = hackathonRepository.findUserHackathonsIncludingArchive(
+                userId, status, pageable.getOffset(), pageable.getPageSize());
+        Page<HackathonRepositoryCustom.FeedRow> page = new PageImpl<>(rows, pageable,
+                hackathonRepository.countUserHackathonsIncludingArchive(userId, status));
+
+        boolean registered = status == RegistrationStatus.REGISTERED;
+        return new HackathonListResponseDto(convertFeedRows(rows, registered, !registered), page.getNumber(),
+                page.getTotalPages(), page.getTotalElements(), page.hasNext(), page.hasPrevious());
+    }
+
+    private List<HackathonListItemDto> convertFeedRows(List<HackathonRepositoryCustom.FeedRow> rows) {
+        return convertFeedRows(rows, false, false);
+    }
+
+    // Loads live and archived rows with one query (plus one tag query) per table, keeping the feed order
+    private List<HackathonListItemDto> convertFeedRows(List<HackathonRepositoryCustom.FeedRow> rows,
+                                                       boolean isRegistered, boolean isStarred) {
+        List<Long> liveIds = rows.stream().filter(row -> !row.archived()).map(HackathonRepositoryCustom.FeedRow::id).toList();
+        List<Long> archivedIds = rows.stream().filter(HackathonRepositoryCustom.FeedRow::archived)
+                .map(HackathonRepositoryCustom.FeedRow::id).toList();
+
+        Map<Long, HackathonListView> liveHackathons = liveIds.isEmpty() ? Map.of()
+                : hackathonRepository.findByStatusAndDeletedFalseAndIdIn(Status.ACCEPTED, liveIds).stream()
+                .collect(Collectors.toMap(HackathonListView::getId, Function.identity()));
+        Map<Long, HackathonListView> archivedHackathons = archivedIds.isEmpty() ? Map.of()
+                : archivedHackathonRepository.findListViewsByIdIn(archivedIds).stream()
+                .collect(Collectors.toMap(HackathonListView::getId, Function.identity()));
+
+        Map<Long, List<String>> liveTags = liveIds.isEmpty() ? Map.of()
+                : groupTags(hackathonRepository.findTagsByHackathonIds(liveIds));
+        Map<Long, List<String>> archivedTags = archivedIds.isEmpty() ? Map.of()
+                : groupTags(archivedHackathonRepository.findTagsByHackathonIds(archivedIds));
+
+        List<HackathonListItemDto> items = new ArrayList<>(rows.size());
+        for (HackathonRepositoryCustom.FeedRow row : rows) {
+            HackathonListView hackathon = (row.archived() ? archivedHackathons : liveHackathons).get(row.id());
+            if (hackathon != null) {
+                List<String> tags = (row.archived() ? archivedTags : liveTags).getOrDefault(row.id(), List.of());
+                items.add(convertToListItem(hackathon, tags, isRegistered, isStarred));
+            }
+        }
+        return items;
+    }
+
+    private HackathonDetailsResponseDto getArchivedHackathonDetails(Long hackathonId, Long userId) {
+        ArchivedHackathon archived = archivedHackathonRepository.findById(hackathonId)
+                .filter(hackathon -> hackathon.getStatus() == Status.ACCEPTED && !hackathon.isDeleted())
+                .orElseThrow(() -> new RuntimeException("Hackathon not found or not approved"));
+
+        User postedBy = userRepository.findById(archived.getPostedById()).orElseGet(User::new);
+        Hackathon hackathon = archived.toHackathon(postedBy);
+        hackathon.setTags(new ArrayList<>(archived.getTags()));
+
+        RegistrationStatus status = null;
+        if (userId != null) {
+            List<Object[]> rows = archivedRegistrationRepository.findStatusesByUserAndHackathonIds(userId, List.of(hackathonId));
+            status = rows.isEmpty() ? null : (RegistrationStatus) rows.get(0)[1];
+        }
+        return convertToDetails(hackathon, status == RegistrationStatus.REGISTERED, status == RegistrationStatus.STARRED);
+    }
+
+    private HackathonListResponseDto getHackathonFeedWindow(HackathonFilterRequestDto filterRequest, Sort sort,
+                                                            Set<Long> indexFilterIds, LocalDateTime now) {
+        KeysetScrollPosition position = CursorCodec.decode(filterRequest.getCursor());
+        if (!position.isInitial() && !position.getKeys().keySet().containsAll(
+                sort.stream().map(Sort.Order::getProperty).toList())) {
+            throw new RuntimeException("Cursor does not match the requested sort order");
+        }
+
+        if (indexFilterIds != null && indexFilterIds.isEmpty()) {
+            return new HackathonListResponseDto(List.of(), 0, 0, 0, false, !position.isInitial());
+        }
+
+        Limit limit = Limit.of(Math.max(filterRequest.getSize(), 1));
+        Window<HackathonListView> window;
+        if (indexFilterIds != null) {
+            window = filterRequest.isShowExpired()
+                    ? hackathonRepository.findByStatusAndDeletedFalseAndIdIn(Status.ACCEPTED, indexFilterIds, position, sort, limit)
+                    : hackathonRepository.findByStatusAndDeletedFalseAndDeadlineAfterAndIdIn(
+                            Status.ACCEPTED, now, indexFilterIds, position, sort, limit);
+        } else {
+            window = filterRequest.isShowExpired()
+                    ? hackathonRepository.findByStatusAndDeletedFalse(Status.ACCEPTED, position, sort, limit)
+                    : hackathonRepository.findByStatusAndDeletedFalseAndDeadlineAfter(
+                            Status.ACCEPTED, now, position, sort, limit);
+        }
+
+        List<HackathonListItemDto> hackathonDtos = convertToListItems(window.getContent());
+
+        // Cursor mode skips the COUNT query, so page totals are not reported
+        HackathonListResponseDto response = new HackathonListResponseDto(
+                hackathonDtos, 0, 0, 0, window.hasNext(), !position.isInitial());
+        if (window.hasNext()) {
+            response.setNextCursor(CursorCodec.encode(window.positionAt(window.size() - 1)));
+        }
+        return response;
+    }
+
+    private Page<HackathonListView> searchHackathons(List<Long> rankedIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+
+        Map<Long, HackathonListView> hackathonsById = pageIds.isEmpty() ? Map.of()
+                : hackathonRepository.findByStatusAndDeletedFalseAndIdIn(Status.ACCEPTED, pageIds).stream()
+                .collect(Collectors.toMap(HackathonListView::getId, Function.identity()));
+
+        List<HackathonListView> rankedPage = pageIds.stream()
+                .map(hackathonsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(rankedPage, pageable, rankedIds.size());
+    }
+
+    // Lock the requested rows, move every PENDING one with a single UPDATE, then report each id
+    private BatchReviewResponseDto reviewHackathons(List<Long> hackathonIds, Status targetStatus, Long adminId) {
+        List<Long> requestedIds = hackathonIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (requestedIds.isEmpty()) {
+            return new BatchReviewResponseDto(0, 0, List.of());
+        }
+
+        Map<Long, Status> currentStatuses = new HashMap<>();
+        for (Object[] row : hackathonRepository.findStatusesForUpdate(requestedIds)) {
+            currentStatuses.put((Long) row[0], (Status) row[1]);
+        }
+        List<Long> pendingIds = requestedIds.stream()
+                .filter(hackathonId -> currentStatuses.get(hackathonId) == Status.PENDING)
+                .toList();
+
+        int updated = 0;
+        if (!pendingIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            updated = targetStatus == Status.ACCEPTED
+                    ? hackathonRepository.approvePending(pendingIds, adminId, now)
+                    : hackathonRepository.rejectPending(pendingIds, now);
+            updateIndexesAfterReview(pendingIds, targetStatus);
+        }
+
+        String successMessage = targetStatus == Status.ACCEPTED ? "Hackathon approved successfully" : "Hackathon rejected";
+        List<BatchReviewResultDto> results = new ArrayList<>(requestedIds.size());
+        for (Long hackathonId : requestedIds) {
+            Status status = currentStatuses.get(hackathonId);
+            if (status == null) {
+                results.add(new BatchReviewResultDto(hackathonId, false, null, "Hackathon not found"));
+            } else if (status != Status.PENDING) {
+                results.add(new BatchReviewResultDto(hackathonId, false, status, "Hackathon is not in pending state"));
+            } else {
+                results.add(new BatchReviewResultDto(hackathonId, true, targetStatus, successMessage));
+            }
+        }
+
+        return new BatchReviewResponseDto(updated, requestedIds.size() - updated, results);
+    }
+
+    // Approved hackathons are read back once (rows + tags) to feed the indexes after commit
+    private void updateIndexesAfterReview(List<Long> hackathonIds, Status targetStatus) {
+        if (targetStatus != Status.ACCEPTED) {
+            TransactionHooks.afterCommit(() -> {
+                hackathonIds.forEach(hackathonId -> {
+                    searchIndex.remove(hackathonId);
+                    tagIndex.remove(hackathonId);
+                    urgencyIndex.remove(hackathonId);
+                    duplicateIndex.remove(hackathonId);
+                });
+                feedCache.invalidateAll();
+            });
+            return;
+        }
+
+        List<Hackathon> approvedHackathons = hackathonRepository.findAllById(hackathonIds);
+        Map<Long, List<String>> tagsByHackathon = groupTags(hackathonRepository.findTagsByHackathonIds(hackathonIds));
+        TransactionHooks.afterCommit(() -> {
+            approvedHackathons.forEach(hackathon -> {
+                searchIndex.index(hackathon);
+                tagIndex.index(hackathon.getId(), tagsByHackathon.getOrDefault(hackathon.getId(), List.of()),
+                        hackathon.getDeadline());
+                urgencyIndex.index(hackathon.getId(), hackathon.getDeadline());
+            });
+            feedCache.invalidateAll();
+        });
+    }
+
     private Sort createSort(String sortBy, String sortDirection) {
         Sort.Direction direction = "desc".equalsIgnoreCase(sortDirection) ?
                 Sort.Direction.DESC : Sort.Direction.ASC;
@@ -361,28 +833,126 @@ public class HackathonServiceImpl implements HackathonService {
         };
     }
 
-    private HackathonListItemDto convertToListItem(Hackathon hackathon) {
-        return convertToListItem(hackathon, false, false);
+    // Persisted count plus the views still buffered in memory
+    private Long currentViewCount(Long hackathonId, Long persistedViewCount) {
+        return persistedViewCount + viewCounter.pendingViews(hackathonId);
     }
 
-    private HackathonListItemDto convertToListItem(Hackathon hackathon, boolean isRegistered, boolean isStarred) {
+    private List<HackathonListItemDto> convertToListItems(List<HackathonListView> hackathons) {
+        return convertToListItems(hackathons, false, false);
+    }
+
+    private List<HackathonListItemDto> convertToPendingListItems(List<HackathonListView> hackathons) {
+        List<HackathonListItemDto> hackathonDtos = convertToListItems(hackathons);
+        for (int i = 0; i < hackathonDtos.size(); i++) {
+            hackathonDtos.get(i).setDuplicateOf(hackathons.get(i).getDuplicateOf());
+        }
+        return hackathonDtos;
+    }
+
+    // Asking for EXPIRED hackathons implies showing them
+    private void normalizeFeedFilter(HackathonFilterRequestDto filterRequest) {
+        if (parseUrgencyLevel(filterRequest.getUrgencyLevel()) == UrgencyLevel.EXPIRED) {
+            filterRequest.setShowExpired(true);
+        }
+    }
+
+    private UrgencyLevel parseUrgencyLevel(String urgencyLevel) {
+        if (urgencyLevel == null || urgencyLevel.isBlank()) {
+            return null;
+        }
+        try {
+            return UrgencyLevel.valueOf(urgencyLevel.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid urgency level: " + urgencyLevel);
+        }
+    }
+
+    // Level kept by the urgency index; hackathons it does not track (pending ones) are computed on the spot
+    private String urgencyLevelOf(Long hackathonId, LocalDateTime deadline) {
+        UrgencyLevel level = urgencyIndex.levelOf(hackathonId);
+        return level != null ? level.name() : UrgencyLevel.of(deadline, LocalDateTime.now()).name();
+    }
+
+    private HackathonListResponseDto toListResponse(Page<HackathonListView> page, List<HackathonListItemDto> hackathonDtos) {
+        return new HackathonListResponseDto(
+                hackathonDtos,
+                page.getNumber(),
+                page.getTotalPages(),
+                page.getTotalElements(),
+                page.hasNext(),
+                page.hasPrevious()
+        );
+    }
+
+    // One query for the viewer's registrations across every hackathon on the page
+    private void applyViewerFlags(List<HackathonListItemDto> hackathons, Long userId, boolean includeArchive) {
+        if (hackathons == null || hackathons.isEmpty()) {
+            return;
+        }
+
+        List<Long> hackathonIds = hackathons.stream().map(HackathonListItemDto::getHackathonId).toList();
+        Map<Long, RegistrationStatus> statuses = new HashMap<>();
+        for (Object[] row : registrationRepository.findStatusesByUserAndHackathonIds(userId, hackathonIds)) {
+            statuses.put((Long) row[0], (RegistrationStatus) row[1]);
+        }
+        if (includeArchive) {
+            for (Object[] row : archivedRegistrationRepository.findStatusesByUserAndHackathonIds(userId, hackathonIds)) {
+                statuses.putIfAbsent((Long) row[0], (RegistrationStatus) row[1]);
+            }
+        }
+
+        for (HackathonListItemDto hackathon : hackathons) {
+            RegistrationStatus status = statuses.get(hackathon.getHackathonId());
+            hackathon.setRegistered(status == RegistrationStatus.REGISTERED);
+            hackathon.setStarred(status == RegistrationStatus.STARRED);
+        }
+    }
+
+    // Tags are fetched for the whole list at once instead of lazily per hackathon
+    private List<HackathonListItemDto> convertToListItems(List<HackathonListView> hackathons, boolean isRegistered, boolean isStarred) {
+        if (hackathons.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> hackathonIds = hackathons.stream().map(HackathonListView::getId).toList();
+        Map<Long, List<String>> tagsByHackathon = groupTags(hackathonRepository.findTagsByHackathonIds(hackathonIds));
+
+        return hackathons.stream()
+                .map(hackathon -> convertToListItem(hackathon,
+                        tagsByHackathon.getOrDefault(hackathon.getId(), List.of()), isRegistered, isStarred))
+                .toList();
+    }
+
+    // (hackathonId, tag) rows -> tags per hackathon
+    private Map<Long, List<String>> groupTags(List<Object[]> rows) {
+        Map<Long, List<String>> tagsByHackathon = new HashMap<>();
+        for (Object[] row : rows) {
+            tagsByHackathon.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return tagsByHackathon;
+    }
+
+    private HackathonListItemDto convertToListItem(HackathonListView hackathon, List<String> tags,
+                                                   boolean isRegistered, boolean isStarred) {
         return new HackathonListItemDto(
                 hackathon.getId(),
                 hackathon.getTitle(),
-                hackathon.getDescription(),
+                hackathon.getDescriptionPreview(),
                 hackathon.getPosterUrl(),
-                hackathon.getTags(),
+                tags,
                 hackathon.getOrganizer(),
                 hackathon.getLocation(),
                 hackathon.getDeadline(),
                 hackathon.getPrizePool(),
-                hackathon.getViewCount(),
+                currentViewCount(hackathon.getId(), hackathon.getViewCount()),
                 hackathon.getRegistrationCount(),
                 hackathon.getTeamCount(),
                 isRegistered,
                 isStarred,
-                hackathon.getUrgencyLevel(),
-                hackathon.getCreatedAt()
+                urgencyLevelOf(hackathon.getId(), hackathon.getDeadline()),
+                hackathon.getCreatedAt(),
+                null
         );
     }
 
@@ -403,82 +973,17 @@ public class HackathonServiceImpl implements HackathonService {
                 hackathon.getMaxTeamSize(),
                 hackathon.getMinTeamSize(),
                 hackathon.getContactEmail(),
-                hackathon.getViewCount(),
+                currentViewCount(hackathon.getId(), hackathon.getViewCount()),
                 hackathon.getRegistrationCount(),
                 hackathon.getTeamCount(),
                 hackathon.getStatus().name(),
                 isRegistered,
                 isStarred,
                 hackathon.isExpired(),
-                hackathon.getUrgencyLevel(),
+                urgencyLevelOf(hackathon.getId(), hackathon.getDeadline()),
                 hackathon.getPostedBy().getEmail(),
                 hackathon.getCreatedAt(),
                 hackathon.getApprovedAt()
         );
     }
-
-    private String extractTitle(String text) {
-        Pattern titlePattern = Pattern.compile("(?i)(?:hackathon[:\\s]*)?([A-Z][\\w\\s]{5,50})", Pattern.MULTILINE);
-        Matcher matcher = titlePattern.matcher(text);
-        return matcher.find() ? matcher.group(1).trim() : null;
-    }
-
-    private String extractDescription(String text) {
-        return text.length() > 200 ? text.substring(0, 200) + "..." : text;
-    }
-
-    private String extractRegistrationLink(String text) {
-        Pattern urlPattern = Pattern.compile("https?://[\\w\\-_]+(\\.[\\w\\-_]+)+([\\w\\-\\.,@?^=%&:/~\\+#]*[\\w\\-\\@?^=%&/~\\+#])?");
-        Matcher matcher = urlPattern.matcher(text);
-        return matcher.find() ? matcher.group() : null;
-    }
-
-    private LocalDateTime extractDeadline(String text) {
-        Pattern datePattern = Pattern.compile("(?i)(?:deadline|due|submit|end)[:\\s]*([\\d]{1,2}[/-][\\d]{1,2}[/-][\\d]{2,4})");
-        Matcher matcher = datePattern.matcher(text);
-        return matcher.find() ? LocalDateTime.now().plusDays(7) : LocalDateTime.now().plusDays(30);
-    }
-
-    private List<String> extractTags(String text) {
-        List<String> tags = new ArrayList<>();
-        String lowerText = text.toLowerCase();
-
-        if (lowerText.contains("ai") || lowerText.contains("artificial intelligence")) tags.add("AI");
-        if (lowerText.contains("web") || lowerText.contains("website")) tags.add("Web Development");
-        if (lowerText.contains("mobile") || lowerText.contains("app")) tags.add("Mobile");
-        if (lowerText.contains("blockchain")) tags.add("Blockchain");
-        if (lowerText.contains("ml") || lowerText.contains("machine learning")) tags.add("Machine Learning");
-        if (lowerText.contains("iot")) tags.add("IoT");
-
-        return tags;
-    }
-
-    private String extractOrganizer(String text) {
-        Pattern organizerPattern = Pattern.compile("(?i)(?:organized by|by|host[ed]* by)[:\\s]*([A-Za-z\\s]{3,50})");
-        Matcher matcher = organizerPattern.matcher(text);
-        return matcher.find() ? matcher.group(1).trim() : null;
-    }
-
-    private String extractLocation(String text) {
-        Pattern locationPattern = Pattern.compile("(?i)(?:location|venue|at)[:\\s]*([A-Za-z\\s,]{3,50})");
-        Matcher matcher = locationPattern.matcher(text);
-        if (matcher.find()) return matcher.group(1).trim();
-        if (text.toLowerCase().contains("online") || text.toLowerCase().contains("virtual")) return "Online";
-        return null;
-    }
-
-    private String extractPrizePool(String text) {
-        Pattern prizePattern = Pattern.compile("(?i)(?:prize|reward|cash)[:\\s]*([\\$₹€£]?[\\d,]+[\\$₹€£]?)");
-        Matcher matcher = prizePattern.matcher(text);
-        return matcher.find() ? matcher.group(1).trim() : null;
-    }
-
-    private double calculateConfidence(String title, String description, String registrationLink, LocalDateTime deadline) {
-        int score = 0;
-        if (title != null && !title.isEmpty()) score += 25;
-        if (description != null && !description.isEmpty()) score += 25;
-        if (registrationLink != null && !registrationLink.isEmpty()) score += 30;
-        if (deadline != null) score += 20;
-        return score / 100.0;
-    }
 }
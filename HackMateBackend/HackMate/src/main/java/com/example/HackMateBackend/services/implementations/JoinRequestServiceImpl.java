@@ -4,28 +4,61 @@ import com.example.HackMateBackend.data.entities.*;
 import com.example.HackMateBackend.data.enums.Status;
 import com.example.HackMateBackend.dtos.joinrequest.*;
 import com.example.HackMateBackend.repositories.*;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
 import com.example.HackMateBackend.services.interfaces.JoinRequestService;
 import com.example.HackMateBackend.services.interfaces.NotificationService;
 import com.example.HackMateBackend.services.interfaces.EmailService;
+import com.example.HackMateBackend.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional
 public class JoinRequestServiceImpl implements JoinRequestService {
 
     private final JoinRequestRepository joinRequestRepository;
+    private final ArchivedJoinRequestRepository archivedJoinRequestRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
     private final ProfileRepository profileRepository;
     private final NotificationService notificationService;
     private final EmailService emailService;
+    private final TeamSkillIndex skillIndex;
+    private final RecommendationIndex recommendationIndex;
+    private final TeamCountCache teamCountCache;
+    private final PlatformTransactionManager transactionManager;
+    private TransactionTemplate writeTransaction;
+
+    @Value("${app.teams.join-max-attempts:5}")
+    private int joinMaxAttempts;
+
+    @Value("${app.teams.join-retry-backoff-ms:10}")
+    private long joinRetryBackoffMs;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
 
     @Override
     public SendJoinRequestResponseDto sendJoinRequest(SendJoinRequestDto request, Long userId) {
@@ -74,61 +107,72 @@ public class JoinRequestServiceImpl implements JoinRequestService {
         );
     }
 
+    // Accepts are retried when the Team version moved under them (e.g. the leader edited the team meanwhile)
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProcessJoinRequestResponseDto processJoinRequest(ProcessJoinRequestDto request, Long leaderId) {
-        JoinRequest joinRequest = joinRequestRepository.findByIdAndNotDeleted(request.getJoinRequestId())
-                .orElseThrow(() -> new RuntimeException("Join request not found"));
-
-        if (!joinRequestRepository.canLeaderAccessRequest(request.getJoinRequestId(), leaderId)) {
-            throw new RuntimeException("You are not authorized to process this join request");
+        if (!"ACCEPT".equalsIgnoreCase(request.getAction())) {
+            return writeTransaction.execute(status -> rejectJoinRequest(request, leaderId));
         }
 
-        if (joinRequest.getStatus() != Status.PENDING) {
-            throw new RuntimeException("Join request has already been processed");
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return writeTransaction.execute(status -> acceptJoinRequest(request, leaderId));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= joinMaxAttempts) {
+                    log.warn("Giving up on join request {} after {} conflicting attempts", request.getJoinRequestId(), attempt);
+                    throw new RuntimeException("The team is being updated by someone else, please try again");
+                }
+                backOff(attempt);
+            }
         }
+    }
 
-        if (joinRequest.isExpired()) {
-            throw new RuntimeException("Join request has expired");
+    // The guarded UPDATE is the first write: it either takes a slot or returns 0 for a full team, and a taken
+    // slot holds the team row until commit. The team is only read after it, so under read committed it shows
+    // what the previous accept committed and the role check cannot race another accept for the same team.
+    private ProcessJoinRequestResponseDto acceptJoinRequest(ProcessJoinRequestDto request, Long leaderId) {
+        JoinRequest joinRequest = findProcessableJoinRequest(request, leaderId);
+        Long teamId = joinRequest.getTeam().getId();
+
+        if (teamRepository.reserveSlot(teamId) == 0) {
+            throw new RuntimeException("Team is now full");
         }
 
         Team team = joinRequest.getTeam();
         User requester = joinRequest.getRequester();
-        boolean isAccepted = "ACCEPT".equalsIgnoreCase(request.getAction());
-
-        if (isAccepted) {
-            if (team.isFull()) {
-                throw new RuntimeException("Team is now full");
-            }
 
-            if (teamRepository.isUserInAnyTeamForHackathon(requester.getId(), team.getHackathon().getId())) {
-                throw new RuntimeException("User has already joined another team for this hackathon");
-            }
+        if (teamRepository.isUserInAnyTeamForHackathon(requester.getId(), team.getHackathon().getId())) {
+            throw new RuntimeException("User has already joined another team for this hackathon");
+        }
 
-            joinRequest.accept(leaderId, request.getResponseMessage());
+        joinRequest.accept(leaderId, request.getResponseMessage());
+        team.addMember(requester, joinRequest.getRequestedRole());
+        teamRepository.save(team);
+        joinRequestRepository.save(joinRequest);
 
-            team.addMember(requester, joinRequest.getRequestedRole());
-            teamRepository.save(team);
+        notificationService.createJoinRequestResponseNotification(joinRequest, true);
 
+        TeamSkillIndex.TeamSnapshot snapshot = TeamSkillIndex.TeamSnapshot.of(team);
+        TransactionHooks.afterCommit(() -> {
+            skillIndex.index(snapshot);
+            recommendationIndex.markHackathonChanged(snapshot.hackathonId());
+            teamCountCache.invalidate(snapshot.hackathonId());
             sendTeamJoinedEmail(requester, team);
-        } else {
-            joinRequest.reject(leaderId, request.getResponseMessage());
-        }
+        });
 
-        joinRequestRepository.save(joinRequest);
+        return convertToProcessResponse(joinRequest, true);
+    }
 
-        notificationService.createJoinRequestResponseNotification(joinRequest, isAccepted);
+    private ProcessJoinRequestResponseDto rejectJoinRequest(ProcessJoinRequestDto request, Long leaderId) {
+        JoinRequest joinRequest = findProcessableJoinRequest(request, leaderId);
 
-        Profile requesterProfile = profileRepository.findByUserId(requester.getId()).orElse(null);
-        String requesterName = requesterProfile != null ? requesterProfile.getFullName() : requester.getEmail();
+        joinRequest.reject(leaderId, request.getResponseMessage());
+        joinRequestRepository.save(joinRequest);
 
-        return new ProcessJoinRequestResponseDto(
-                true,
-                String.format("Join request %s successfully", isAccepted ? "accepted" : "rejected"),
-                isAccepted ? "ACCEPTED" : "REJECTED",
-                requesterName,
-                team.getTeamName(),
-                joinRequest.getProcessedAt()
-        );
+        notificationService.createJoinRequestResponseNotification(joinRequest, false);
+
+        return convertToProcessResponse(joinRequest, false);
     }
 
     @Override
@@ -175,6 +219,11 @@ public class JoinRequestServiceImpl implements JoinRequestService {
             }
         }
 
+        // Requests to teams of archived hackathons were moved along with them and are all in the past
+        for (Object[] row : archivedJoinRequestRepository.findByRequesterWithTeam(userId)) {
+            pastRequests.add(convertToMyJoinRequestItem((ArchivedJoinRequest) row[0], (String) row[1], (String) row[2]));
+        }
+
         boolean hasActiveRequest = !activeRequests.isEmpty();
         String nextAvailableTime = hasActiveRequest ? "You have an active request pending" : null;
 
@@ -253,8 +302,7 @@ public class JoinRequestServiceImpl implements JoinRequestService {
             return false;
         }
 
-        Team team = teamRepository.findByIdAndNotDeleted(teamId).orElse(null);
-        return team == null || !team.isUserMember(userId);
+        return !teamMemberRepository.isActiveMember(teamId, userId);
     }
 
     @Override
@@ -264,6 +312,50 @@ public class JoinRequestServiceImpl implements JoinRequestService {
 
     // === Helper Methods ===
 
+    // Jittered exponential back-off so retrying accepts do not collide again in lockstep
+    private void backOff(int attempt) {
+        long maxDelay = joinRetryBackoffMs << Math.min(attempt - 1, 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while processing join request");
+        }
+    }
+
+    private JoinRequest findProcessableJoinRequest(ProcessJoinRequestDto request, Long leaderId) {
+        JoinRequest joinRequest = joinRequestRepository.findByIdAndNotDeleted(request.getJoinRequestId())
+                .orElseThrow(() -> new RuntimeException("Join request not found"));
+
+        if (!joinRequestRepository.canLeaderAccessRequest(request.getJoinRequestId(), leaderId)) {
+            throw new RuntimeException("You are not authorized to process this join request");
+        }
+
+        if (joinRequest.getStatus() != Status.PENDING) {
+            throw new RuntimeException("Join request has already been processed");
+        }
+
+        if (joinRequest.isExpired()) {
+            throw new RuntimeException("Join request has expired");
+        }
+        return joinRequest;
+    }
+
+    private ProcessJoinRequestResponseDto convertToProcessResponse(JoinRequest joinRequest, boolean isAccepted) {
+        User requester = joinRequest.getRequester();
+        Profile requesterProfile = profileRepository.findByUserId(requester.getId()).orElse(null);
+        String requesterName = requesterProfile != null ? requesterProfile.getFullName() : requester.getEmail();
+
+        return new ProcessJoinRequestResponseDto(
+                true,
+                String.format("Join request %s successfully", isAccepted ? "accepted" : "rejected"),
+                isAccepted ? "ACCEPTED" : "REJECTED",
+                requesterName,
+                joinRequest.getTeam().getTeamName(),
+                joinRequest.getProcessedAt()
+        );
+    }
+
     private MyJoinRequestItemDto convertToMyJoinRequestItem(JoinRequest request) {
         Team team = request.getTeam();
 
@@ -285,6 +377,26 @@ public class JoinRequestServiceImpl implements JoinRequestService {
         );
     }
 
+    private MyJoinRequestItemDto convertToMyJoinRequestItem(ArchivedJoinRequest request, String teamName,
+                                                            String hackathonTitle) {
+        return new MyJoinRequestItemDto(
+                request.getId(),
+                request.getTeamId(),
+                teamName,
+                hackathonTitle,
+                request.getRequestedRole(),
+                new ArrayList<>(request.getUserSkills()),
+                request.getMessage(),
+                request.getStatus().name(),
+                request.getResponseMessage(),
+                request.getCreatedAt(),
+                request.getExpiresAt(),
+                request.getProcessedAt(),
+                false,
+                LocalDateTime.now().isAfter(request.getExpiresAt())
+        );
+    }
+
     private JoinRequestListItemDto convertToListItem(JoinRequest request) {
         User requester = request.getRequester();
         Profile requesterProfile = profileRepository.findByUserId(requester.getId()).orElse(null);
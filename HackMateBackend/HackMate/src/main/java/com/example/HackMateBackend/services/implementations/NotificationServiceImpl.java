@@ -3,16 +3,25 @@ package com.example.HackMateBackend.services.implementations;
 import com.example.HackMateBackend.data.entities.*;
 import com.example.HackMateBackend.repositories.*;
 import com.example.HackMateBackend.services.interfaces.NotificationService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.example.HackMateBackend.dtos.notification.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.List;
 
 @Service
@@ -21,8 +30,29 @@ import java.util.List;
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final DateTimeFormatter REMINDER_DEADLINE = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final HackathonRepository hackathonRepository;
+    private final PlatformTransactionManager transactionManager;
+    private TransactionTemplate writeTransaction;
+
+    // Hours before the deadline at which reminders go out, largest first after init
+    @Value("${app.reminders.windows-hours:72,24}")
+    private int[] reminderWindowsHours;
+
+    @Value("${app.reminders.chunk-size:1000}")
+    private int reminderChunkSize;
+
+    @PostConstruct
+    void init() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        reminderWindowsHours = Arrays.stream(reminderWindowsHours).boxed()
+                .sorted((a, b) -> Integer.compare(b, a))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -106,16 +136,18 @@ public class NotificationServiceImpl implements NotificationService {
     public NotificationPreferencesDto getNotificationPreferences(Long userId) {
         log.info("Fetching notification preferences for user: {}", userId);
 
-        // In a real implementation, you'd have a NotificationPreferences entity
-        // For now, return default preferences
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        // Only the deadline reminder settings are stored so far, the rest are defaults
         return new NotificationPreferencesDto(
                 true,  // emailNotifications
                 true,  // pushNotifications
-                true,  // hackathonDeadlineReminders
+                user.isDeadlineRemindersEnabled(),
                 true,  // joinRequestUpdates
                 true,  // teamUpdates
                 true,  // generalAnnouncements
-                24     // reminderHoursBefore
+                user.getReminderHoursBefore() != null ? user.getReminderHoursBefore() : reminderWindowsHours[0]
         );
     }
 
@@ -124,8 +156,14 @@ public class NotificationServiceImpl implements NotificationService {
             UpdateNotificationPreferencesRequestDto request, Long userId) {
         log.info("Updating notification preferences for user: {}", userId);
 
-        // In a real implementation, you'd update NotificationPreferences entity
-        // For now, return success response
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        // Only the deadline reminder settings are stored so far
+        user.setDeadlineRemindersEnabled(request.isHackathonDeadlineReminders());
+        user.setReminderHoursBefore(request.getReminderHoursBefore() > 0 ? request.getReminderHoursBefore() : null);
+        userRepository.save(user);
+
         return new UpdateNotificationPreferencesResponseDto(
                 true,
                 "Notification preferences updated successfully",
@@ -177,12 +215,37 @@ public class NotificationServiceImpl implements NotificationService {
     public void createHackathonDeadlineNotification(Hackathon hackathon, Long userId, int hoursRemaining) {
         log.info("Creating deadline notification for hackathon: {} user: {}", hackathon.getId(), userId);
 
-        User user = userRepository.findById(userId).orElse(null);
-        if (user != null) {
-            Notification notification = Notification.createHackathonDeadlineNotification(
-                    user, hackathon, hoursRemaining);
-            notificationRepository.save(notification);
+        Notification notification = Notification.createHackathonDeadlineNotification(null, hackathon, hoursRemaining);
+        notificationRepository.insertForUsers(notification, List.of(userId));
+    }
+
+    // Each run only looks at hackathons inside a reminder window; the reminder key makes reruns
+    // skip users already notified, so a run that stopped halfway is simply finished by the next one
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sendDeadlineReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+
+        for (int i = 0; i < reminderWindowsHours.length; i++) {
+            int windowHours = reminderWindowsHours[i];
+            boolean lastWindow = i == reminderWindowsHours.length - 1;
+
+            // A deadline already inside the next smaller window gets that reminder instead
+            LocalDateTime start = lastWindow ? now : now.plusHours(reminderWindowsHours[i + 1]);
+            List<Hackathon> hackathons = hackathonRepository.findHackathonsWithDeadlineBetween(
+                    start, now.plusHours(windowHours));
+
+            for (Hackathon hackathon : hackathons) {
+                try {
+                    sent += sendDeadlineReminder(hackathon, windowHours, lastWindow, now);
+                } catch (DataIntegrityViolationException e) {
+                    // Another run inserted some of the same reminders; the next run picks up the rest
+                    log.warn("Deadline reminders for hackathon {} collided with another run", hackathon.getId());
+                }
+            }
         }
+        return sent;
     }
 
     @Override
@@ -205,6 +268,47 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     // Helper methods
+    // Streams the recipients in id order, one SELECT and one batched INSERT per chunk
+    private int sendDeadlineReminder(Hackathon hackathon, int windowHours, boolean lastWindow, LocalDateTime now) {
+        long minutesRemaining = Duration.between(now, hackathon.getDeadline()).toMinutes();
+        int hoursRemaining = (int) Math.max(1, (minutesRemaining + 59) / 60);
+
+        Notification template = Notification.createHackathonDeadlineNotification(null, hackathon, hoursRemaining);
+        template.setReminderKey(deadlineReminderKey(hackathon, windowHours));
+
+        // Everyone opted in gets the last reminder; earlier ones only if their preference reaches that far
+        Integer preferenceFilter = lastWindow ? null : windowHours;
+        long afterUserId = 0;
+        int sent = 0;
+
+        while (true) {
+            List<Long> userIds = notificationRepository.findDeadlineReminderRecipients(
+                    hackathon.getId(), template.getReminderKey(), preferenceFilter, afterUserId, reminderChunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Integer inserted = writeTransaction.execute(status -> notificationRepository.insertForUsers(template, userIds));
+            sent += inserted != null ? inserted : 0;
+
+            if (userIds.size() < reminderChunkSize) {
+                break;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+        }
+
+        if (sent > 0) {
+            log.info("Sent {} deadline reminders ({}h) for hackathon {}", sent, windowHours, hackathon.getId());
+        }
+        return sent;
+    }
+
+    // The deadline is part of the key, so moving it lets each window remind everyone again
+    private static String deadlineReminderKey(Hackathon hackathon, int windowHours) {
+        return "deadline:" + hackathon.getId() + ":" + hackathon.getDeadline().format(REMINDER_DEADLINE) + ":"
+                + windowHours + "h";
+    }
+
     private NotificationItemDto convertToNotificationItemDto(Notification notification) {
         return new NotificationItemDto(
                 notification.getId(),
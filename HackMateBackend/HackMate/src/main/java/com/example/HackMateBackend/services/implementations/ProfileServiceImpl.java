@@ -3,7 +3,9 @@ package com.example.HackMateBackend.services.implementations;
 import com.example.HackMateBackend.data.entities.*;
 import com.example.HackMateBackend.dtos.profile.*;
 import com.example.HackMateBackend.repositories.*;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
 import com.example.HackMateBackend.services.interfaces.ProfileService;
+import com.example.HackMateBackend.utils.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,7 @@ public class ProfileServiceImpl implements ProfileService {
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
+    private final RecommendationIndex recommendationIndex;
 
     @Override
     public ProfileSetupResponseDto setupProfile(ProfileSetupRequestDto request, Long userId) {
@@ -56,6 +59,7 @@ public class ProfileServiceImpl implements ProfileService {
         // Mark user profile as setup
         user.markProfileAsSetup();
         userRepository.save(user);
+        TransactionHooks.afterCommit(() -> recommendationIndex.markUserChanged(userId));
 
         int completionPercentage = savedProfile.calculateCompletionPercentage();
 
@@ -88,6 +92,7 @@ public class ProfileServiceImpl implements ProfileService {
         if (request.getMainSkill() != null) profile.setMainSkill(request.getMainSkill());
 
         profileRepository.save(profile);
+        TransactionHooks.afterCommit(() -> recommendationIndex.markUserChanged(userId));
 
         log.info("Profile updated for user: {}", userId);
 
@@ -261,7 +266,8 @@ public class ProfileServiceImpl implements ProfileService {
         Profile reviewerProfile = profileRepository.findByUserId(review.getReviewer().getId()).orElse(null);
         String reviewerName = reviewerProfile != null ? reviewerProfile.getFullName() : review.getReviewer().getEmail();
         String reviewerAvatarId = reviewerProfile != null ? reviewerProfile.getAvatarId() : null;
-        String hackathonName = review.getHackathon() != null ? review.getHackathon().getTitle() : null;
+        String hackathonName = review.getHackathon() != null ? review.getHackathon().getTitle()
+                : review.getArchivedHackathon() != null ? review.getArchivedHackathon().getTitle() : null;
 
         return new ReviewDto(
                 review.getId(),
@@ -0,0 +1,185 @@
+package com.example.HackMateBackend.services.implementations;
+
+import com.example.HackMateBackend.data.entities.Profile;
+import com.example.HackMateBackend.data.entities.Team;
+import com.example.HackMateBackend.dtos.team.*;
+import com.example.HackMateBackend.repositories.ProfileRepository;
+import com.example.HackMateBackend.repositories.TeamMemberRepository;
+import com.example.HackMateBackend.repositories.TeamRepository;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
+import com.example.HackMateBackend.services.interfaces.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private final RecommendationIndex recommendationIndex;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ProfileRepository profileRepository;
+
+    // Users registered since the last refresh (or not registered at all) are scored on the fly
+    @Override
+    public TeamRecommendationsResponseDto recommendTeams(Long hackathonId, Long userId, int limit) {
+        int size = clampLimit(limit);
+        Set<String> userSkills = toUserSkills(profileRepository.findSkillRowsByUserId(userId));
+
+        List<RecommendationIndex.Recommendation> recommendations;
+        if (recommendationIndex.hasUser(hackathonId, userId)) {
+            recommendations = recommendationIndex.teamsForUser(hackathonId, userId, recommendationIndex.getTopN());
+        } else if (teamRepository.isUserInAnyTeamForHackathon(userId, hackathonId)) {
+            recommendations = List.of();
+        } else {
+            recommendations = recommendationIndex.rankTeams(hackathonId, userSkills, recommendationIndex.getTopN());
+        }
+
+        Map<Long, Team> teams = teamRepository.findAllById(ids(recommendations)).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+
+        // The table may be up to one refresh old, so teams that closed since are skipped
+        List<RecommendedTeamDto> teamDtos = new ArrayList<>();
+        for (RecommendationIndex.Recommendation recommendation : recommendations) {
+            Team team = teams.get(recommendation.id());
+            if (team == null || !isOpen(team)) {
+                continue;
+            }
+            teamDtos.add(convertToRecommendedTeamDto(team, userSkills, recommendation.similarity()));
+            if (teamDtos.size() == size) {
+                break;
+            }
+        }
+
+        return new TeamRecommendationsResponseDto(hackathonId, teamDtos);
+    }
+
+    @Override
+    public CandidateRecommendationsResponseDto recommendCandidates(Long teamId, Long leaderId, int limit) {
+        Team team = teamRepository.findByIdAndNotDeleted(teamId)
+                .orElseThrow(() -> new RuntimeException("Team not found"));
+
+        if (!team.isUserLeader(leaderId)) {
+            throw new RuntimeException("You are not authorized to view candidates for this team");
+        }
+
+        int size = clampLimit(limit);
+        Long hackathonId = team.getHackathon().getId();
+        List<RecommendationIndex.Recommendation> recommendations = recommendationIndex.hasTeam(hackathonId, teamId)
+                ? recommendationIndex.usersForTeam(hackathonId, teamId, recommendationIndex.getTopN())
+                : recommendationIndex.rankUsers(hackathonId, team.getSkillsNeeded(), recommendationIndex.getTopN());
+
+        List<Long> userIds = ids(recommendations);
+        if (userIds.isEmpty()) {
+            return new CandidateRecommendationsResponseDto(team.getId(), team.getTeamName(), List.of());
+        }
+
+        // Users who joined a team since the last refresh are no longer candidates
+        Set<Long> teamedUserIds = new HashSet<>(teamMemberRepository.findTeamedUserIds(hackathonId, userIds));
+        Map<Long, Profile> profiles = profileRepository.findWithSkillsByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(profile -> profile.getUser().getId(), Function.identity()));
+
+        List<RecommendedCandidateDto> candidates = new ArrayList<>();
+        for (RecommendationIndex.Recommendation recommendation : recommendations) {
+            Profile profile = profiles.get(recommendation.id());
+            if (profile == null || teamedUserIds.contains(recommendation.id())) {
+                continue;
+            }
+            candidates.add(convertToRecommendedCandidateDto(profile, team, recommendation.similarity()));
+            if (candidates.size() == size) {
+                break;
+            }
+        }
+
+        return new CandidateRecommendationsResponseDto(team.getId(), team.getTeamName(), candidates);
+    }
+
+    @Override
+    public int refreshRecommendations() {
+        return recommendationIndex.refresh();
+    }
+
+    @Override
+    public void rebuildRecommendations() {
+        recommendationIndex.rebuild();
+    }
+
+    // === Helper Methods ===
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, recommendationIndex.getTopN()));
+    }
+
+    private static List<Long> ids(List<RecommendationIndex.Recommendation> recommendations) {
+        return recommendations.stream().map(RecommendationIndex.Recommendation::id).toList();
+    }
+
+    private static boolean isOpen(Team team) {
+        return !team.isDeleted() && team.isPublic() && team.isActive() && !team.isFull()
+                && team.getCurrentSize() < team.getMaxSize();
+    }
+
+    // Rows are (mainSkill, skill) as returned by ProfileRepository.findSkillRowsByUserId
+    private static Set<String> toUserSkills(List<Object[]> skillRows) {
+        Set<String> skills = new HashSet<>();
+        for (Object[] row : skillRows) {
+            addNormalized(skills, (String) row[0]);
+            addNormalized(skills, (String) row[1]);
+        }
+        return skills;
+    }
+
+    private static void addNormalized(Set<String> skills, String skill) {
+        String normalized = TeamSkillIndex.normalize(skill);
+        if (!normalized.isEmpty()) {
+            skills.add(normalized);
+        }
+    }
+
+    private static List<String> matchingSkills(List<String> skillsNeeded, Set<String> normalizedSkills) {
+        return skillsNeeded.stream()
+                .filter(skill -> normalizedSkills.contains(TeamSkillIndex.normalize(skill)))
+                .distinct()
+                .toList();
+    }
+
+    private RecommendedTeamDto convertToRecommendedTeamDto(Team team, Set<String> userSkills, int similarity) {
+        return new RecommendedTeamDto(
+                team.getId(),
+                team.getTeamName(),
+                team.getDescription(),
+                team.getMaxSize(),
+                team.getCurrentSize(),
+                team.getAvailableSlots(),
+                team.getSkillsNeeded(),
+                matchingSkills(team.getSkillsNeeded(), userSkills),
+                similarity
+        );
+    }
+
+    private RecommendedCandidateDto convertToRecommendedCandidateDto(Profile profile, Team team, int similarity) {
+        Set<String> candidateSkills = new HashSet<>();
+        profile.getSkills().forEach(skill -> addNormalized(candidateSkills, skill));
+        addNormalized(candidateSkills, profile.getMainSkill());
+
+        return new RecommendedCandidateDto(
+                profile.getUser().getId(),
+                profile.getFullName(),
+                profile.getAvatarId(),
+                profile.getCollege(),
+                profile.getMainSkill(),
+                profile.getSkills(),
+                matchingSkills(team.getSkillsNeeded(), candidateSkills),
+                similarity
+        );
+    }
+}
@@ -4,20 +4,39 @@ import com.example.HackMateBackend.data.entities.*;
 import com.example.HackMateBackend.data.enums.TeamRole;
 import com.example.HackMateBackend.dtos.team.*;
 import com.example.HackMateBackend.repositories.*;
+import com.example.HackMateBackend.repositories.projections.TeamMemberDetailsView;
+import com.example.HackMateBackend.repositories.projections.UserSummaryView;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSearchIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
 import com.example.HackMateBackend.services.interfaces.TeamService;
+import com.example.HackMateBackend.utils.CursorCodec;
+import com.example.HackMateBackend.utils.TransactionHooks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +47,16 @@ public class TeamServiceImpl implements TeamService {
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final HackathonRepository hackathonRepository;
-    private final ProfileRepository profileRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final JoinRequestRepository joinRequestRepository;
+    private final ArchivedTeamRepository archivedTeamRepository;
+    private final TeamSkillIndex skillIndex;
+    private final TeamSearchIndex searchIndex;
+    private final RecommendationIndex recommendationIndex;
+    private final TeamCountCache teamCountCache;
+
+    @Value("${app.exports.fetch-size:500}")
+    private int exportFetchSize;
 
     @Override
     public CreateTeamResponseDto createTeam(CreateTeamRequestDto request, Long userId) {
@@ -82,6 +108,15 @@ public class TeamServiceImpl implements TeamService {
         // Update hackathon team count
         hackathonRepository.incrementTeamCount(hackathon.getId());
 
+        TeamSkillIndex.TeamSnapshot snapshot = TeamSkillIndex.TeamSnapshot.of(savedTeam);
+        TeamSearchIndex.TeamText text = TeamSearchIndex.TeamText.of(savedTeam);
+        TransactionHooks.afterCommit(() -> {
+            skillIndex.index(snapshot);
+            searchIndex.index(text);
+            recommendationIndex.markHackathonChanged(snapshot.hackathonId());
+            teamCountCache.invalidate(snapshot.hackathonId());
+        });
+
         log.info("Team created with ID: {} for hackathon: {}", savedTeam.getId(), hackathon.getId());
 
         return new CreateTeamResponseDto(
@@ -98,27 +133,35 @@ public class TeamServiceImpl implements TeamService {
     public TeamDetailsResponseDto getTeamDetails(Long teamId, Long userId) {
         log.info("Fetching team details for team: {} by user: {}", teamId, userId);
 
-        Team team = teamRepository.findByIdAndNotDeleted(teamId)
-                .orElseThrow(() -> new RuntimeException("Team not found"));
+        // Team with hackathon, leader and the viewer's join state in one statement
+        List<Object[]> rows = teamRepository.findDetailsWithViewerState(teamId, userId, LocalDateTime.now());
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Team not found");
+        }
+        Team team = (Team) rows.get(0)[0];
+        boolean hasActiveRequest = (Long) rows.get(0)[1] > 0;
+        boolean isInTeamForHackathon = (Long) rows.get(0)[2] > 0;
+
+        // Active members with their profiles in a second one
+        List<TeamMemberDto> memberDtos = convertToMemberDtos(teamMemberRepository.findActiveMemberDetails(teamId));
+
+        boolean isUserMember = memberDtos.stream().anyMatch(member -> member.getUserId().equals(userId));
+        boolean isUserLeader = team.isUserLeader(userId);
 
         // Check if user can view this team
-        if (!team.isPublic() && !team.isUserMember(userId) && !team.isUserLeader(userId)) {
+        if (!team.isPublic() && !isUserMember && !isUserLeader) {
             throw new RuntimeException("Access denied to private team");
         }
 
-        boolean isUserMember = team.isUserMember(userId);
-        boolean isUserLeader = team.isUserLeader(userId);
         boolean hasPendingRequest = false;
         boolean canJoin = false;
 
         if (!isUserMember && !isUserLeader) {
-            hasPendingRequest = joinRequestRepository.hasActiveRequestForTeam(
-                    userId, teamId, LocalDateTime.now());
-            canJoin = !hasPendingRequest && !team.isFull() && team.isActive() &&
-                    !teamRepository.isUserInAnyTeamForHackathon(userId, team.getHackathon().getId());
+            hasPendingRequest = hasActiveRequest;
+            canJoin = !hasPendingRequest && !team.isFull() && team.isActive() && !isInTeamForHackathon;
         }
 
-        return convertToTeamDetailsDto(team, isUserMember, isUserLeader, hasPendingRequest, canJoin);
+        return convertToTeamDetailsDto(team, memberDtos, isUserMember, isUserLeader, hasPendingRequest, canJoin);
     }
 
     @Override
@@ -150,6 +193,15 @@ public class TeamServiceImpl implements TeamService {
 
         teamRepository.save(team);
 
+        TeamSkillIndex.TeamSnapshot snapshot = TeamSkillIndex.TeamSnapshot.of(team);
+        TeamSearchIndex.TeamText text = TeamSearchIndex.TeamText.of(team);
+        TransactionHooks.afterCommit(() -> {
+            skillIndex.index(snapshot);
+            searchIndex.index(text);
+            recommendationIndex.markHackathonChanged(snapshot.hackathonId());
+            teamCountCache.invalidate(snapshot.hackathonId());
+        });
+
         log.info("Team updated: {}", team.getId());
 
         return new UpdateTeamResponseDto(
@@ -168,6 +220,21 @@ public class TeamServiceImpl implements TeamService {
         hackathonRepository.findApprovedById(searchRequest.getHackathonId())
                 .orElseThrow(() -> new RuntimeException("Hackathon not found"));
 
+        // Ranking by match needs every open team scored, which the skill index does in memory
+        if ("matchPercentage".equals(searchRequest.getSortBy()) && isOpenStatus(searchRequest.getStatus())
+                && (searchRequest.getSearch() == null || searchRequest.getSearch().trim().isEmpty())) {
+            return searchTeamsByMatch(searchRequest);
+        }
+
+        // Text search is fuzzy and ranked by similarity, which the trigram index does in memory
+        if (searchRequest.getSearch() != null && !searchRequest.getSearch().trim().isEmpty()) {
+            return searchTeamsByText(searchRequest);
+        }
+
+        if (searchRequest.getCursor() != null) {
+            return searchTeamsByCursor(searchRequest);
+        }
+
         // Create pageable with sorting
         Sort sort = createSortFromRequest(searchRequest.getSortBy(), searchRequest.getSortDirection());
         Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
@@ -175,10 +242,7 @@ public class TeamServiceImpl implements TeamService {
         Page<Team> teamPage;
 
         // Apply filters based on search criteria
-        if (searchRequest.getSearch() != null && !searchRequest.getSearch().trim().isEmpty()) {
-            teamPage = teamRepository.searchTeamsByHackathon(
-                    searchRequest.getHackathonId(), searchRequest.getSearch().trim(), pageable);
-        } else if (searchRequest.getUserSkills() != null && !searchRequest.getUserSkills().isEmpty()) {
+        if (searchRequest.getUserSkills() != null && !searchRequest.getUserSkills().isEmpty()) {
             teamPage = teamRepository.findTeamsWithMatchingSkills(
                     searchRequest.getHackathonId(), searchRequest.getUserSkills(), pageable);
         } else {
@@ -190,8 +254,10 @@ public class TeamServiceImpl implements TeamService {
         }
 
         // Convert to DTOs with skill matching
+        Map<Long, UserSummaryView> leaders = findLeaderSummaries(teamPage.getContent());
         List<TeamListItemDto> teamDtos = teamPage.getContent().stream()
-                .map(team -> convertToListItemDto(team, searchRequest.getUserSkills()))
+                .map(team -> convertToListItemDto(team, searchRequest.getUserSkills(),
+                        team.calculateMatchPercentage(searchRequest.getUserSkills()), leaders))
                 .toList();
 
         return new TeamSearchResponseDto(
@@ -224,14 +290,19 @@ public class TeamServiceImpl implements TeamService {
             throw new RuntimeException("Cannot remove team leader");
         }
 
-        // Check if user is actually a member
-        if (!team.isUserMember(request.getUserIdToRemove())) {
+        // Remove member; nothing is deactivated if the user is not actually a member
+        if (teamMemberRepository.deactivateMember(team.getId(), userToRemove.getId(), LocalDateTime.now()) == 0) {
             throw new RuntimeException("User is not a member of this team");
         }
+        teamRepository.freeSlot(team.getId());
+        team.releaseSlot();
 
-        // Remove member
-        team.removeMember(userToRemove);
-        teamRepository.save(team);
+        TeamSkillIndex.TeamSnapshot snapshot = TeamSkillIndex.TeamSnapshot.of(team);
+        TransactionHooks.afterCommit(() -> {
+            skillIndex.index(snapshot);
+            recommendationIndex.markHackathonChanged(snapshot.hackathonId());
+            teamCountCache.invalidate(snapshot.hackathonId());
+        });
 
         log.info("Member removed from team: {}", team.getId());
 
@@ -250,22 +321,24 @@ public class TeamServiceImpl implements TeamService {
         Team team = teamRepository.findByIdAndNotDeleted(request.getTeamId())
                 .orElseThrow(() -> new RuntimeException("Team not found"));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Check if user is a member
-        if (!team.isUserMember(userId)) {
-            throw new RuntimeException("You are not a member of this team");
-        }
-
         // Leader cannot leave - must transfer leadership or delete team
         if (team.isUserLeader(userId)) {
             throw new RuntimeException("Team leader cannot leave. Transfer leadership or delete team.");
         }
 
-        // Remove member
-        team.removeMember(user);
-        teamRepository.save(team);
+        // Remove member; nothing is deactivated if the user is not a member
+        if (teamMemberRepository.deactivateMember(team.getId(), userId, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("You are not a member of this team");
+        }
+        teamRepository.freeSlot(team.getId());
+        team.releaseSlot();
+
+        TeamSkillIndex.TeamSnapshot snapshot = TeamSkillIndex.TeamSnapshot.of(team);
+        TransactionHooks.afterCommit(() -> {
+            skillIndex.index(snapshot);
+            recommendationIndex.markHackathonChanged(snapshot.hackathonId());
+            teamCountCache.invalidate(snapshot.hackathonId());
+        });
 
         log.info("User {} left team: {}", userId, team.getId());
 
@@ -284,10 +357,15 @@ public class TeamServiceImpl implements TeamService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<Team> userTeams = teamRepository.findTeamsByMember(userId);
+        List<Team> userTeams = new ArrayList<>(teamRepository.findTeamsByMember(userId));
+        // Teams of archived hackathons were moved along with them
+        for (ArchivedTeam archivedTeam : archivedTeamRepository.findTeamsByMember(userId)) {
+            userTeams.add(archivedTeam.toTeam(userRepository.getReferenceById(archivedTeam.getLeaderId())));
+        }
 
+        Map<Long, UserSummaryView> leaders = findLeaderSummaries(userTeams);
         List<TeamListItemDto> teamDtos = userTeams.stream()
-                .map(team -> convertToListItemDto(team, null))
+                .map(team -> convertToListItemDto(team, null, team.calculateMatchPercentage(null), leaders))
                 .toList();
 
         return new TeamSearchResponseDto(
@@ -296,34 +374,72 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
-    public TeamExportResponseDto exportTeamData(TeamExportRequestDto request, Long userId) {
+    @Transactional(readOnly = true)
+    public TeamExportDto prepareTeamExport(TeamExportRequestDto request, Long userId) {
         log.info("Exporting team data for team: {} by user: {}", request.getTeamId(), userId);
 
         Team team = teamRepository.findByIdAndNotDeleted(request.getTeamId())
                 .orElseThrow(() -> new RuntimeException("Team not found"));
 
         // Check if user has access
-        if (!team.isUserMember(userId) && !team.isUserLeader(userId)) {
+        if (!team.isUserLeader(userId) && !teamMemberRepository.isActiveMember(team.getId(), userId)) {
             throw new RuntimeException("Access denied");
         }
 
-        // In a real implementation, you would generate PDF/CSV here
-        // For now, return a mock response
-        String fileName = String.format("team_%s_%s.%s",
-                team.getTeamName().replaceAll("\\s+", "_"),
-                LocalDateTime.now().toString().substring(0, 10),
-                request.getFormat().toLowerCase());
+        String format = normalizeExportFormat(request.getFormat());
+        Hackathon hackathon = team.getHackathon();
+        return new TeamExportDto(
+                hackathon.getId(),
+                team.getId(),
+                request.isIncludeHackathonDetails() ? hackathon.getTitle() : null,
+                exportFileName("team_" + team.getTeamName(), format),
+                format,
+                request.isIncludeContactInfo(),
+                LocalDateTime.now()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamExportDto prepareHackathonExport(Long hackathonId, String format, boolean includeContactInfo,
+                                                Long userId) {
+        log.info("Exporting team rosters for hackathon: {} by user: {}", hackathonId, userId);
 
-        return new TeamExportResponseDto(
-                true,
-                "Team data exported successfully",
-                "/exports/" + fileName, // Mock URL
-                fileName,
-                request.getFormat(),
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Hackathon hackathon = hackathonRepository.findById(hackathonId)
+                .orElseThrow(() -> new RuntimeException("Hackathon not found"));
+
+        // Only the organizer who posted the hackathon (or an admin) may see every roster
+        if (!user.isAdmin() && !hackathon.getPostedBy().getId().equals(userId)) {
+            throw new RuntimeException("Access denied");
+        }
+
+        String normalizedFormat = normalizeExportFormat(format);
+        return new TeamExportDto(
+                hackathon.getId(),
+                null,
+                hackathon.getTitle(),
+                exportFileName("rosters_" + hackathon.getTitle(), normalizedFormat),
+                normalizedFormat,
+                includeContactInfo,
                 LocalDateTime.now()
         );
     }
 
+    // Rows go straight from the database cursor to onRow, so memory stays flat however large the hackathon is
+    @Override
+    @Transactional(readOnly = true)
+    public void streamRoster(TeamExportDto export, Consumer<TeamRosterRowDto> onRow) {
+        Consumer<TeamRepositoryCustom.RosterRow> writer = row -> onRow.accept(convertToRosterRowDto(row, export));
+
+        teamRepository.streamTeamRoster(export.getHackathonId(), export.getTeamId(), exportFetchSize, writer);
+        if (export.getTeamId() == null) {
+            teamRepository.streamUnteamedRegistrants(export.getHackathonId(), exportFetchSize, writer);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Team> findById(Long id) {
@@ -347,9 +463,7 @@ public class TeamServiceImpl implements TeamService {
     @Override
     @Transactional(readOnly = true)
     public boolean isUserTeamMember(Long userId, Long teamId) {
-        return teamRepository.findByIdAndNotDeleted(teamId)
-                .map(team -> team.isUserMember(userId))
-                .orElse(false);
+        return teamMemberRepository.isActiveMember(teamId, userId);
     }
 
     @Override
@@ -359,6 +473,187 @@ public class TeamServiceImpl implements TeamService {
     }
 
     // Helper methods
+    private TeamSearchResponseDto searchTeamsByMatch(TeamSearchRequestDto searchRequest) {
+        int page = rankedPage(searchRequest);
+        int size = Math.max(searchRequest.getSize(), 1);
+        boolean descending = !"asc".equalsIgnoreCase(searchRequest.getSortDirection());
+
+        TeamSkillIndex.RankedPage ranked = skillIndex.rank(searchRequest.getHackathonId(),
+                searchRequest.getUserSkills(), descending, page, size);
+
+        List<Long> teamIds = ranked.teams().stream().map(TeamSkillIndex.RankedTeam::teamId).toList();
+        Map<Long, Team> teamsById = teamRepository.findAllById(teamIds).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+
+        // Keep the ranked order; a team deleted since it was indexed is simply skipped
+        Map<Long, UserSummaryView> leaders = findLeaderSummaries(teamsById.values());
+        List<TeamListItemDto> teamDtos = ranked.teams().stream()
+                .filter(rankedTeam -> teamsById.containsKey(rankedTeam.teamId()))
+                .map(rankedTeam -> convertToListItemDto(teamsById.get(rankedTeam.teamId()),
+                        searchRequest.getUserSkills(), rankedTeam.matchPercentage(), leaders))
+                .toList();
+
+        return toRankedResponse(searchRequest, teamDtos, page, size, ranked.totalElements());
+    }
+
+    private TeamSearchResponseDto searchTeamsByText(TeamSearchRequestDto searchRequest) {
+        int page = rankedPage(searchRequest);
+        int size = Math.max(searchRequest.getSize(), 1);
+
+        TeamSearchIndex.SearchPage found = searchIndex.search(searchRequest.getHackathonId(),
+                searchRequest.getSearch().trim(), page, size);
+
+        Map<Long, Team> teamsById = teamRepository.findAllById(found.teamIds()).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+
+        // Keep the ranked order; a team deleted since it was indexed is simply skipped
+        Map<Long, UserSummaryView> leaders = findLeaderSummaries(teamsById.values());
+        List<TeamListItemDto> teamDtos = found.teamIds().stream()
+                .filter(teamsById::containsKey)
+                .map(teamId -> convertToListItemDto(teamsById.get(teamId), searchRequest.getUserSkills(),
+                        teamsById.get(teamId).calculateMatchPercentage(searchRequest.getUserSkills()), leaders))
+                .toList();
+
+        return toRankedResponse(searchRequest, teamDtos, page, size, found.totalElements());
+    }
+
+    // In-memory rankings are paged by number, so in cursor mode the cursor only carries the next page
+    private int rankedPage(TeamSearchRequestDto searchRequest) {
+        if (searchRequest.getCursor() == null) {
+            return Math.max(searchRequest.getPage(), 0);
+        }
+        KeysetScrollPosition position = CursorCodec.decode(searchRequest.getCursor());
+        if (position.isInitial()) {
+            return 0;
+        }
+        if (position.getKeys().get("page") instanceof Integer page) {
+            return page;
+        }
+        throw new RuntimeException("Cursor does not match the requested sort order");
+    }
+
+    private TeamSearchResponseDto toRankedResponse(TeamSearchRequestDto searchRequest, List<TeamListItemDto> teamDtos,
+                                                   int page, int size, long totalElements) {
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        TeamSearchResponseDto response = new TeamSearchResponseDto(
+                teamDtos,
+                page,
+                totalPages,
+                totalElements,
+                page + 1 < totalPages,
+                page > 0
+        );
+        if (searchRequest.getCursor() != null && response.isHasNext()) {
+            response.setNextCursor(CursorCodec.encode(ScrollPosition.forward(Map.of("page", page + 1))));
+        }
+        return response;
+    }
+
+    private String normalizeExportFormat(String format) {
+        String normalized = format == null ? "CSV" : format.trim().toUpperCase();
+        if (!normalized.equals("CSV") && !normalized.equals("NDJSON")) {
+            throw new RuntimeException("Unsupported export format: " + format + " (use CSV or NDJSON)");
+        }
+        return normalized;
+    }
+
+    private String exportFileName(String name, String format) {
+        return String.format("%s_%s.%s",
+                name.replaceAll("[^A-Za-z0-9_-]+", "_"),
+                LocalDate.now(),
+                format.toLowerCase());
+    }
+
+    private TeamRosterRowDto convertToRosterRowDto(TeamRepositoryCustom.RosterRow row, TeamExportDto export) {
+        boolean contact = export.isIncludeContactInfo();
+        return new TeamRosterRowDto(
+                export.getHackathonTitle(),
+                row.teamId(),
+                row.teamName(),
+                row.currentSize(),
+                row.maxSize(),
+                row.memberRole(),
+                row.assignedRole(),
+                row.joinedAt(),
+                row.userId(),
+                row.fullName(),
+                row.college(),
+                row.year(),
+                row.mainSkill(),
+                row.skills(),
+                contact ? row.email() : null,
+                contact ? row.githubProfile() : null,
+                contact ? row.linkedinProfile() : null
+        );
+    }
+
+    // Keyset pages cost the same however deep the scroll goes, and skip the COUNT unless a total is asked for
+    private TeamSearchResponseDto searchTeamsByCursor(TeamSearchRequestDto searchRequest) {
+        int size = Math.max(searchRequest.getSize(), 1);
+        String property = switch (searchRequest.getSortBy() != null ? searchRequest.getSortBy() : "") {
+            case "teamName", "availableSlots" -> searchRequest.getSortBy();
+            default -> "createdAt";
+        };
+        boolean descending = !"asc".equalsIgnoreCase(searchRequest.getSortDirection());
+        TeamRepositoryCustom.TeamFilter filter = toTeamFilter(searchRequest);
+
+        KeysetScrollPosition position = CursorCodec.decode(searchRequest.getCursor());
+        Object afterValue = null;
+        Long afterId = null;
+        if (!position.isInitial()) {
+            if (!(position.getKeys().get("id") instanceof Long id) || !position.getKeys().containsKey(property)) {
+                throw new RuntimeException("Cursor does not match the requested sort order");
+            }
+            afterValue = position.getKeys().get(property);
+            afterId = id;
+        }
+
+        // One extra row tells whether another page follows
+        List<TeamRepositoryCustom.TeamKey> keys = teamRepository.findTeamKeys(
+                filter, property, descending, afterValue, afterId, size + 1);
+        boolean hasNext = keys.size() > size;
+        if (hasNext) {
+            keys = keys.subList(0, size);
+        }
+
+        Map<Long, Team> teamsById = teamRepository.findAllById(
+                keys.stream().map(TeamRepositoryCustom.TeamKey::id).toList()).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        Map<Long, UserSummaryView> leaders = findLeaderSummaries(teamsById.values());
+        List<TeamListItemDto> teamDtos = keys.stream()
+                .filter(key -> teamsById.containsKey(key.id()))
+                .map(key -> teamsById.get(key.id()))
+                .map(team -> convertToListItemDto(team, searchRequest.getUserSkills(),
+                        team.calculateMatchPercentage(searchRequest.getUserSkills()), leaders))
+                .toList();
+
+        long total = searchRequest.isIncludeTotal() ? teamCountCache.get(filter, teamRepository::countTeams) : 0;
+        TeamSearchResponseDto response = new TeamSearchResponseDto(
+                teamDtos, 0, (int) ((total + size - 1) / size), total, hasNext, !position.isInitial());
+        if (hasNext) {
+            TeamRepositoryCustom.TeamKey last = keys.get(keys.size() - 1);
+            Map<String, Object> cursorKeys = new LinkedHashMap<>();
+            cursorKeys.put(property, last.sortValue());
+            cursorKeys.put("id", last.id());
+            response.setNextCursor(CursorCodec.encode(ScrollPosition.forward(cursorKeys)));
+        }
+        return response;
+    }
+
+    // Same branches as the offset search: skill match, then the status filter (text search goes to the index)
+    private TeamRepositoryCustom.TeamFilter toTeamFilter(TeamSearchRequestDto searchRequest) {
+        Long hackathonId = searchRequest.getHackathonId();
+        if (searchRequest.getUserSkills() != null && !searchRequest.getUserSkills().isEmpty()) {
+            return new TeamRepositoryCustom.TeamFilter(hackathonId, "OPEN", null, searchRequest.getUserSkills());
+        }
+        return new TeamRepositoryCustom.TeamFilter(hackathonId,
+                isOpenStatus(searchRequest.getStatus()) ? "OPEN" : searchRequest.getStatus(), null, null);
+    }
+
+    private boolean isOpenStatus(String status) {
+        return status == null || "OPEN".equalsIgnoreCase(status);
+    }
+
     private Sort createSortFromRequest(String sortBy, String sortDirection) {
         Sort.Direction direction = "desc".equalsIgnoreCase(sortDirection) ?
                 Sort.Direction.DESC : Sort.Direction.ASC;
@@ -367,17 +662,27 @@ public class TeamServiceImpl implements TeamService {
             case "createdAt" -> Sort.by(direction, "createdAt");
             case "teamName" -> Sort.by(direction, "teamName");
             case "availableSlots" -> Sort.by(direction, "maxSize").and(Sort.by(Sort.Direction.ASC, "currentSize"));
-            case "matchPercentage" -> Sort.by(direction, "createdAt"); // Default sort for match percentage
+            case "matchPercentage" -> Sort.by(direction, "createdAt"); // Only reached when the skill index cannot rank
             default -> Sort.by(Sort.Direction.DESC, "createdAt");
         };
     }
 
-    private TeamListItemDto convertToListItemDto(Team team, List<String> userSkills) {
-        List<String> matchingSkills = team.getMatchingSkills(userSkills);
-        int matchPercentage = team.calculateMatchPercentage(userSkills);
+    // Leader name/avatar for a page of teams in one query; getLeader().getId() does not initialize the proxy
+    private Map<Long, UserSummaryView> findLeaderSummaries(Collection<Team> teams) {
+        Set<Long> leaderIds = teams.stream()
+                .map(team -> team.getLeader().getId())
+                .collect(Collectors.toSet());
+        if (leaderIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findSummariesByIdIn(leaderIds).stream()
+                .collect(Collectors.toMap(UserSummaryView::getUserId, Function.identity()));
+    }
 
-        // Get leader profile for display
-        Profile leaderProfile = profileRepository.findByUserId(team.getLeader().getId()).orElse(null);
+    private TeamListItemDto convertToListItemDto(Team team, List<String> userSkills, int matchPercentage,
+                                                 Map<Long, UserSummaryView> leaders) {
+        List<String> matchingSkills = team.getMatchingSkills(userSkills);
+        UserSummaryView leader = leaders.get(team.getLeader().getId());
 
         return new TeamListItemDto(
                 team.getId(),
@@ -386,8 +691,8 @@ public class TeamServiceImpl implements TeamService {
                 team.getMaxSize(),
                 team.getCurrentSize(),
                 team.getAvailableSlots(),
-                leaderProfile != null ? leaderProfile.getFullName() : team.getLeader().getEmail(),
-                leaderProfile != null ? leaderProfile.getAvatarId() : null,
+                leader != null ? leader.getDisplayName() : null,
+                leader != null ? leader.getAvatarId() : null,
                 team.getRolesNeeded(),
                 team.getSkillsNeeded(),
                 team.getStatus(),
@@ -399,17 +704,14 @@ public class TeamServiceImpl implements TeamService {
         );
     }
 
-    private TeamDetailsResponseDto convertToTeamDetailsDto(Team team, boolean isUserMember,
-                                                           boolean isUserLeader, boolean hasPendingRequest,
-                                                           boolean canJoin) {
-        // Convert leader to DTO
-        TeamMemberDto leaderDto = convertToMemberDto(team.getLeader(), TeamRole.LEADER, "Leader");
-
-        // Convert members to DTOs
-        List<TeamMemberDto> memberDtos = team.getMembers().stream()
-                .filter(TeamMember::isActive)
-                .map(member -> convertToMemberDto(member.getUser(), member.getRole(), member.getAssignedRole()))
-                .toList();
+    private TeamDetailsResponseDto convertToTeamDetailsDto(Team team, List<TeamMemberDto> memberDtos,
+                                                           boolean isUserMember, boolean isUserLeader,
+                                                           boolean hasPendingRequest, boolean canJoin) {
+        // The leader is an active member too; only a team without that row falls back to the bare user
+        TeamMemberDto leaderDto = memberDtos.stream()
+                .filter(member -> member.getUserId().equals(team.getLeader().getId()))
+                .findFirst()
+                .orElseGet(() -> convertToMemberDto(team.getLeader()));
 
         // Convert hackathon to summary DTO
         HackathonSummaryDto hackathonSummary = new HackathonSummaryDto(
@@ -444,24 +746,49 @@ public class TeamServiceImpl implements TeamService {
         );
     }
 
-    private TeamMemberDto convertToMemberDto(User user, TeamRole role, String assignedRole) {
-        Profile profile = profileRepository.findByUserId(user.getId()).orElse(null);
+    // Rows come one per (member, skill); fold them back into one DTO per member, keeping join order
+    private List<TeamMemberDto> convertToMemberDtos(List<TeamMemberDetailsView> rows) {
+        Map<Long, TeamMemberDto> members = new LinkedHashMap<>();
+        for (TeamMemberDetailsView row : rows) {
+            TeamMemberDto member = members.computeIfAbsent(row.getUserId(), userId -> new TeamMemberDto(
+                    userId,
+                    row.getFullName() != null ? row.getFullName() : row.getEmail(),
+                    row.getAvatarId(),
+                    row.getRole().name(),
+                    row.getAssignedRole(),
+                    new ArrayList<>(),
+                    row.getCollege(),
+                    row.getYear(),
+                    row.getEmail(),
+                    null, // Phone hidden for privacy
+                    null, // Discord hidden for privacy
+                    row.getGithubProfile(),
+                    row.getJoinedAt(),
+                    true
+            ));
+            if (row.getSkill() != null) {
+                member.getSkills().add(row.getSkill());
+            }
+        }
+        return new ArrayList<>(members.values());
+    }
 
+    private TeamMemberDto convertToMemberDto(User user) {
         return new TeamMemberDto(
                 user.getId(),
-                profile != null ? profile.getFullName() : user.getEmail(),
-                profile != null ? profile.getAvatarId() : null,
-                role.name(),
-                assignedRole,
-                profile != null ? profile.getSkills() : new ArrayList<>(),
-                profile != null ? profile.getCollege() : null,
-                profile != null ? profile.getYear() : null,
+                user.getEmail(),
+                null,
+                TeamRole.LEADER.name(),
+                "Leader",
+                new ArrayList<>(),
+                null,
+                null,
                 user.getEmail(),
                 null, // Phone hidden for privacy
                 null, // Discord hidden for privacy
-                profile != null ? profile.getGithubProfile() : null,
-                LocalDateTime.now(), // Mock joined date
+                null,
+                null,
                 true
         );
     }
-}
\ No newline at end of file
+}
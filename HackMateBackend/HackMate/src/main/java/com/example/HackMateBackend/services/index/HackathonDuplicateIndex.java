@@ -0,0 +1,185 @@
+package com.example.HackMateBackend.services.index;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import com.example.HackMateBackend.utils.ContentFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Locality-sensitive index over the fingerprints of pending and approved hackathons, used to
+ * catch resubmissions at insert time. The 64-bit SimHash is split into four 16-bit bands;
+ * two fingerprints within three bits of each other must agree on at least one band, so a
+ * lookup only compares against the few hackathons sharing a band value.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HackathonDuplicateIndex {
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final List<Status> INDEXED_STATUSES = List.of(Status.PENDING, Status.ACCEPTED);
+
+    private final HackathonRepository hackathonRepository;
+
+    // Matches beyond BANDS - 1 bits are only found when they happen to share a band
+    @Value("${app.duplicates.max-distance:3}")
+    private int maxDistance;
+
+    private final Map<Long, Long> fingerprints = new HashMap<>();
+    private final Map<Long, String> links = new HashMap<>();
+    private final Map<String, Set<Long>> hackathonsByLink = new HashMap<>();
+    private final List<Map<Integer, Set<Long>>> bands = new ArrayList<>(BANDS);
+
+    {
+        for (int band = 0; band < BANDS; band++) {
+            bands.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * @param sameLink true when the registration links normalize to the same value
+     * @param distance differing fingerprint bits, or -1 when only the link matched
+     */
+    public record Match(Long hackathonId, boolean sameLink, int distance) {
+    }
+
+    // Hackathons stored before fingerprints existed get theirs computed and saved here
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = hackathonRepository.findFingerprintsByStatusIn(INDEXED_STATUSES);
+
+        Map<Long, Long> backfilled = new HashMap<>();
+        List<Long> missingIds = rows.stream().filter(row -> row[1] == null).map(row -> (Long) row[0]).toList();
+        List<Object[]> texts = missingIds.isEmpty() ? List.of() : hackathonRepository.findTextsByIdIn(missingIds);
+        for (Object[] text : texts) {
+            Long fingerprint = fingerprintOf((String) text[1], (String) text[2], (String) text[3]);
+            if (fingerprint != null) {
+                hackathonRepository.updateContentFingerprint((Long) text[0], fingerprint);
+                backfilled.put((Long) text[0], fingerprint);
+            }
+        }
+
+        synchronized (this) {
+            fingerprints.clear();
+            links.clear();
+            hackathonsByLink.clear();
+            bands.forEach(Map::clear);
+            for (Object[] row : rows) {
+                Long hackathonId = (Long) row[0];
+                Long fingerprint = row[1] != null ? (Long) row[1] : backfilled.get(hackathonId);
+                add(hackathonId, ContentFingerprint.normalizeLink((String) row[2]), fingerprint);
+            }
+        }
+
+        log.info("Hackathon duplicate index rebuilt with {} hackathons ({} fingerprints backfilled)",
+                rows.size(), backfilled.size());
+    }
+
+    public synchronized void index(Long hackathonId, String registrationLink, Long fingerprint) {
+        removeEntry(hackathonId);
+        add(hackathonId, ContentFingerprint.normalizeLink(registrationLink), fingerprint);
+    }
+
+    public synchronized void remove(Long hackathonId) {
+        removeEntry(hackathonId);
+    }
+
+    /**
+     * Closest indexed hackathon sharing the normalized link or within the fingerprint
+     * distance limit; a link match wins over any fingerprint match.
+     */
+    public synchronized Optional<Match> findDuplicate(String registrationLink, Long fingerprint) {
+        String link = ContentFingerprint.normalizeLink(registrationLink);
+        if (link != null) {
+            Optional<Long> sameLink = hackathonsByLink.getOrDefault(link, Set.of()).stream().min(Long::compare);
+            if (sameLink.isPresent()) {
+                Long candidate = fingerprints.get(sameLink.get());
+                int distance = fingerprint != null && candidate != null
+                        ? ContentFingerprint.distance(fingerprint, candidate) : -1;
+                return Optional.of(new Match(sameLink.get(), true, distance));
+            }
+        }
+
+        if (fingerprint == null) {
+            return Optional.empty();
+        }
+
+        Match best = null;
+        Set<Long> seen = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            for (Long hackathonId : bands.get(band).getOrDefault(bandValue(fingerprint, band), Set.of())) {
+                if (!seen.add(hackathonId)) {
+                    continue;
+                }
+                int distance = ContentFingerprint.distance(fingerprint, fingerprints.get(hackathonId));
+                if (distance <= maxDistance && (best == null || distance < best.distance()
+                        || (distance == best.distance() && hackathonId < best.hackathonId()))) {
+                    best = new Match(hackathonId, false, distance);
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public static Long fingerprintOf(Hackathon hackathon) {
+        return fingerprintOf(hackathon.getTitle(), hackathon.getDescription(), hackathon.getOriginalMessage());
+    }
+
+    public static Long fingerprintOf(String title, String description, String originalMessage) {
+        String text = originalMessage != null && !originalMessage.isBlank()
+                ? originalMessage
+                : title + " " + Objects.toString(description, "");
+        return ContentFingerprint.simHash(text);
+    }
+
+    // === Helper Methods ===
+
+    private void add(Long hackathonId, String link, Long fingerprint) {
+        if (link != null) {
+            links.put(hackathonId, link);
+            hackathonsByLink.computeIfAbsent(link, key -> new HashSet<>()).add(hackathonId);
+        }
+        if (fingerprint != null) {
+            fingerprints.put(hackathonId, fingerprint);
+            for (int band = 0; band < BANDS; band++) {
+                bands.get(band).computeIfAbsent(bandValue(fingerprint, band), key -> new HashSet<>()).add(hackathonId);
+            }
+        }
+    }
+
+    private void removeEntry(Long hackathonId) {
+        String link = links.remove(hackathonId);
+        if (link != null) {
+            removeFrom(hackathonsByLink, link, hackathonId);
+        }
+        Long fingerprint = fingerprints.remove(hackathonId);
+        if (fingerprint != null) {
+            for (int band = 0; band < BANDS; band++) {
+                removeFrom(bands.get(band), bandValue(fingerprint, band), hackathonId);
+            }
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Long>> postings, K key, Long hackathonId) {
+        Set<Long> ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(hackathonId);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static int bandValue(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & 0xFFFF);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.HackMateBackend.services.index;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over approved hackathons (title, organizer, description).
+ * Results are ranked with BM25 and every query token is matched as a prefix, so
+ * "hack" finds "hackathon" while the user is still typing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HackathonSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_MATCH_PENALTY = 0.8;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    // A token in the title says more about a hackathon than the same token deep in its description
+    private static final int TITLE_WEIGHT = 3;
+    private static final int ORGANIZER_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final HackathonRepository hackathonRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final NavigableSet<String> terms = new TreeSet<>();
+    private final Map<Long, IndexedHackathon> documents = new HashMap<>();
+    private long totalLength = 0;
+
+    private record IndexedHackathon(Map<String, Integer> termFrequencies, int length, LocalDateTime deadline) {
+    }
+
+    private record ScoredHackathon(Long hackathonId, double score, LocalDateTime deadline) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Hackathon> approvedHackathons = hackathonRepository.findByStatusAndDeletedFalse(Status.ACCEPTED);
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            terms.clear();
+            documents.clear();
+            totalLength = 0;
+            approvedHackathons.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Hackathon search index rebuilt with {} hackathons", approvedHackathons.size());
+    }
+
+    public void index(Hackathon hackathon) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(hackathon.getId());
+            if (hackathon.getStatus() == Status.ACCEPTED && !hackathon.isDeleted()) {
+                addDocument(hackathon);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long hackathonId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(hackathonId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of matching hackathons, best match first. Every query token has to
+     * match (exactly or as a prefix) somewhere in the hackathon.
+     */
+    public List<Long> search(String query, boolean includeExpired, LocalDateTime now) {
+        List<String> queryTokens = tokenize(query).stream().distinct().toList();
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = (double) totalLength / documents.size();
+            Map<Long, Double> scores = null;
+
+            for (String queryToken : queryTokens) {
+                Map<Long, Double> tokenScores = scoreToken(queryToken, averageLength);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((hackathonId, score) -> score + tokenScores.get(hackathonId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<ScoredHackathon> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                LocalDateTime deadline = documents.get(entry.getKey()).deadline();
+                if (includeExpired || deadline == null || deadline.isAfter(now)) {
+                    hits.add(new ScoredHackathon(entry.getKey(), entry.getValue(), deadline));
+                }
+            }
+
+            return hits.stream()
+                    .sorted(Comparator.comparingDouble(ScoredHackathon::score).reversed()
+                            .thenComparing(ScoredHackathon::deadline, Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(ScoredHackathon::hackathonId))
+                    .map(ScoredHackathon::hackathonId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    // === Helper Methods ===
+
+    // Best BM25 contribution of a single query token per hackathon, over all indexed terms it prefixes
+    private Map<Long, Double> scoreToken(String queryToken, double averageLength) {
+        Map<Long, Double> tokenScores = new HashMap<>();
+        int expansions = 0;
+
+        for (String term : terms.tailSet(queryToken, true)) {
+            if (!term.startsWith(queryToken) || expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+
+            Map<Long, Integer> termPostings = postings.get(term);
+            double idf = Math.log(1 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            double matchWeight = term.equals(queryToken) ? 1.0 : PREFIX_MATCH_PENALTY;
+
+            for (Map.Entry<Long, Integer> posting : termPostings.entrySet()) {
+                int termFrequency = posting.getValue();
+                int length = documents.get(posting.getKey()).length();
+                double normalizedFrequency = termFrequency * (K1 + 1)
+                        / (termFrequency + K1 * (1 - B + B * length / averageLength));
+                tokenScores.merge(posting.getKey(), matchWeight * idf * normalizedFrequency, Math::max);
+            }
+        }
+        return tokenScores;
+    }
+
+    private void addDocument(Hackathon hackathon) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addField(termFrequencies, hackathon.getTitle(), TITLE_WEIGHT);
+        addField(termFrequencies, hackathon.getOrganizer(), ORGANIZER_WEIGHT);
+        addField(termFrequencies, hackathon.getDescription(), DESCRIPTION_WEIGHT);
+
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        documents.put(hackathon.getId(), new IndexedHackathon(termFrequencies, length, hackathon.getDeadline()));
+        totalLength += length;
+
+        termFrequencies.forEach((term, frequency) -> {
+            postings.computeIfAbsent(term, key -> new HashMap<>()).put(hackathon.getId(), frequency);
+            terms.add(term);
+        });
+    }
+
+    private void removeDocument(Long hackathonId) {
+        IndexedHackathon removed = documents.remove(hackathonId);
+        if (removed == null) {
+            return;
+        }
+
+        totalLength -= removed.length();
+        for (String term : removed.termFrequencies().keySet()) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            termPostings.remove(hackathonId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+                terms.remove(term);
+            }
+        }
+    }
+
+    private void addField(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String token : tokenize(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.HackMateBackend.services.index;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory tag -> hackathon bitmap index over approved hackathons. Every hackathon gets a
+ * dense ordinal, so AND/OR tag filters and per-tag facet counts are plain BitSet operations.
+ * Tags are matched case-insensitively; facets are reported with the first spelling seen.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HackathonTagIndex {
+
+    private static final int MAX_FACETS = 30;
+
+    private final HackathonRepository hackathonRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Long> hackathonIds = new ArrayList<>();
+    private final List<LocalDateTime> deadlines = new ArrayList<>();
+    private final List<Set<String>> hackathonTags = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final BitSet expired = new BitSet();
+    private final Map<String, BitSet> tagBitmaps = new HashMap<>();
+    private final Map<String, String> tagLabels = new HashMap<>();
+
+    // Deadline -> ordinals that expire at that moment, drained as time passes
+    private final TreeMap<LocalDateTime, BitSet> upcomingExpiries = new TreeMap<>();
+
+    /**
+     * @param hackathonIds ids passing the filter, or null when no tag filter was given
+     * @param facets       tag -> number of hackathons in the filtered set carrying it, most frequent first
+     */
+    public record TagQueryResult(Set<Long> hackathonIds, Map<String, Long> facets) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Hackathon> approvedHackathons = hackathonRepository.findByStatusAndDeletedFalse(Status.ACCEPTED);
+        Map<Long, List<String>> tagsByHackathon = new HashMap<>();
+        for (Object[] row : hackathonRepository.findApprovedHackathonTags()) {
+            tagsByHackathon.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            hackathonIds.clear();
+            deadlines.clear();
+            hackathonTags.clear();
+            live.clear();
+            expired.clear();
+            tagBitmaps.clear();
+            tagLabels.clear();
+            upcomingExpiries.clear();
+            for (Hackathon hackathon : approvedHackathons) {
+                addDocument(hackathon.getId(), tagsByHackathon.getOrDefault(hackathon.getId(), List.of()),
+                        hackathon.getDeadline());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Hackathon tag index rebuilt with {} hackathons and {} tags", approvedHackathons.size(), tagBitmaps.size());
+    }
+
+    public void index(Long hackathonId, Collection<String> tags, LocalDateTime deadline) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(hackathonId);
+            addDocument(hackathonId, tags, deadline);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long hackathonId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(hackathonId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the tag filter (all tags when matchAll, any tag otherwise) on top of the optional
+     * candidate set and counts tags over the result.
+     *
+     * @param candidateIds restricts the result to these ids (e.g. search hits), null for no restriction
+     */
+    public TagQueryResult query(Collection<String> tags, boolean matchAll, boolean includeExpired,
+                                Collection<Long> candidateIds, LocalDateTime now) {
+        expireDue(now);
+        List<String> normalizedTags = tags == null ? List.of() : tags.stream()
+                .map(HackathonTagIndex::normalize)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) live.clone();
+            if (!includeExpired) {
+                result.andNot(expired);
+            }
+            if (candidateIds != null) {
+                result.and(toBitSet(candidateIds));
+            }
+            if (!normalizedTags.isEmpty()) {
+                result.and(combine(normalizedTags, matchAll));
+            }
+
+            Set<Long> matchingIds = null;
+            if (!normalizedTags.isEmpty()) {
+                matchingIds = new HashSet<>();
+                for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+                    matchingIds.add(hackathonIds.get(ordinal));
+                }
+            }
+            return new TagQueryResult(matchingIds, facets(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String normalize(String tag) {
+        return tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // === Helper Methods ===
+
+    // Moves hackathons whose deadline has passed into the expired set; a no-op read in the common case
+    private void expireDue(LocalDateTime now) {
+        lock.readLock().lock();
+        try {
+            if (upcomingExpiries.isEmpty() || upcomingExpiries.firstKey().isAfter(now)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            while (!upcomingExpiries.isEmpty() && !upcomingExpiries.firstKey().isAfter(now)) {
+                expired.or(upcomingExpiries.pollFirstEntry().getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private BitSet combine(List<String> normalizedTags, boolean matchAll) {
+        BitSet combined = null;
+        for (String tag : normalizedTags) {
+            BitSet bitmap = tagBitmaps.getOrDefault(tag, new BitSet());
+            if (combined == null) {
+                combined = (BitSet) bitmap.clone();
+            } else if (matchAll) {
+                combined.and(bitmap);
+            } else {
+                combined.or(bitmap);
+            }
+        }
+        return combined;
+    }
+
+    private Map<String, Long> facets(BitSet result) {
+        if (result.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        BitSet scratch = new BitSet();
+        for (Map.Entry<String, BitSet> entry : tagBitmaps.entrySet()) {
+            scratch.clear();
+            scratch.or(entry.getValue());
+            scratch.and(result);
+            int count = scratch.cardinality();
+            if (count > 0) {
+                counts.add(Map.entry(tagLabels.get(entry.getKey()), (long) count));
+            }
+        }
+
+        Map<String, Long> facets = new LinkedHashMap<>();
+        counts.stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_FACETS)
+                .forEach(entry -> facets.put(entry.getKey(), entry.getValue()));
+        return facets;
+    }
+
+    private BitSet toBitSet(Collection<Long> ids) {
+        BitSet bits = new BitSet();
+        for (Long id : ids) {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                bits.set(ordinal);
+            }
+        }
+        return bits;
+    }
+
+    // Ordinals of removed hackathons are not reused; the next rebuild compacts them
+    private void addDocument(Long hackathonId, Collection<String> tags, LocalDateTime deadline) {
+        int ordinal = hackathonIds.size();
+        ordinals.put(hackathonId, ordinal);
+        hackathonIds.add(hackathonId);
+        deadlines.add(deadline);
+        live.set(ordinal);
+
+        Set<String> normalizedTags = new HashSet<>();
+        for (String tag : tags) {
+            String normalized = normalize(tag);
+            if (!normalized.isEmpty() && normalizedTags.add(normalized)) {
+                tagBitmaps.computeIfAbsent(normalized, key -> new BitSet()).set(ordinal);
+                tagLabels.putIfAbsent(normalized, tag.trim());
+            }
+        }
+        hackathonTags.add(normalizedTags);
+
+        if (deadline != null) {
+            upcomingExpiries.computeIfAbsent(deadline, key -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void removeDocument(Long hackathonId) {
+        Integer ordinal = ordinals.remove(hackathonId);
+        if (ordinal == null) {
+            return;
+        }
+
+        live.clear(ordinal);
+        expired.clear(ordinal);
+        for (String tag : hackathonTags.get(ordinal)) {
+            BitSet bitmap = tagBitmaps.get(tag);
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                tagBitmaps.remove(tag);
+                tagLabels.remove(tag);
+            }
+        }
+        hackathonTags.set(ordinal, Set.of());
+
+        LocalDateTime deadline = deadlines.get(ordinal);
+        if (deadline != null) {
+            BitSet due = upcomingExpiries.get(deadline);
+            if (due != null) {
+                due.clear(ordinal);
+                if (due.isEmpty()) {
+                    upcomingExpiries.remove(deadline);
+                }
+            }
+        }
+    }
+}
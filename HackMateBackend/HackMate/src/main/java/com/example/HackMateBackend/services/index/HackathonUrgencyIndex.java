@@ -0,0 +1,172 @@
+package com.example.HackMateBackend.services.index;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.data.enums.UrgencyLevel;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Keeps every approved hackathon in an URGENT/HIGH/MEDIUM/LOW/EXPIRED bucket. Instead of
+ * recomputing levels per request, each hackathon has one timer in a hashed timing wheel
+ * (one-minute ticks) for the moment its level next changes; {@link #advance} fires due
+ * timers, moves the hackathon to its new bucket and schedules the following change.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HackathonUrgencyIndex {
+
+    private static final long TICK_SECONDS = 60;
+    private static final int WHEEL_SIZE = 512;
+
+    private final HackathonRepository hackathonRepository;
+
+    private final Map<Long, LocalDateTime> deadlines = new HashMap<>();
+    private final Map<Long, UrgencyLevel> levels = new HashMap<>();
+    private final Map<UrgencyLevel, Set<Long>> buckets = new EnumMap<>(UrgencyLevel.class);
+
+    // Slot i holds the hackathons whose timer tick is congruent to i; later rounds simply stay in the slot
+    private final List<Set<Long>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final Map<Long, Long> timerTicks = new HashMap<>();
+    private long currentTick;
+
+    {
+        for (UrgencyLevel level : UrgencyLevel.values()) {
+            buckets.put(level, new HashSet<>());
+        }
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new HashSet<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Hackathon> approvedHackathons = hackathonRepository.findByStatusAndDeletedFalse(Status.ACCEPTED);
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (this) {
+            deadlines.clear();
+            levels.clear();
+            timerTicks.clear();
+            buckets.values().forEach(Set::clear);
+            wheel.forEach(Set::clear);
+            currentTick = tickOf(now);
+            approvedHackathons.forEach(hackathon -> add(hackathon.getId(), hackathon.getDeadline(), now));
+        }
+
+        log.info("Hackathon urgency index rebuilt with {} hackathons", approvedHackathons.size());
+    }
+
+    public synchronized void index(Long hackathonId, LocalDateTime deadline) {
+        removeEntry(hackathonId);
+        add(hackathonId, deadline, LocalDateTime.now());
+    }
+
+    public synchronized void remove(Long hackathonId) {
+        removeEntry(hackathonId);
+    }
+
+    // Precomputed level, or null for hackathons that are not approved
+    public synchronized UrgencyLevel levelOf(Long hackathonId) {
+        return levels.get(hackathonId);
+    }
+
+    public synchronized Set<Long> hackathonIdsAt(UrgencyLevel level) {
+        return new HashSet<>(buckets.get(level));
+    }
+
+    public synchronized Map<UrgencyLevel, Integer> bucketSizes() {
+        Map<UrgencyLevel, Integer> sizes = new EnumMap<>(UrgencyLevel.class);
+        buckets.forEach((level, ids) -> sizes.put(level, ids.size()));
+        return sizes;
+    }
+
+    /**
+     * Turns the wheel up to now and returns how many hackathons changed level.
+     * After a long pause every slot is visited once, which still fires every overdue timer.
+     */
+    public synchronized int advance(LocalDateTime now) {
+        long targetTick = tickOf(now);
+        if (targetTick <= currentTick) {
+            return 0;
+        }
+
+        long fromTick = Math.max(currentTick + 1, targetTick - WHEEL_SIZE + 1);
+        currentTick = targetTick;
+        int changed = 0;
+
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Set<Long> slot = wheel.get(slotOf(tick));
+            List<Long> due = slot.stream().filter(id -> timerTicks.get(id) <= targetTick).toList();
+
+            for (Long hackathonId : due) {
+                slot.remove(hackathonId);
+                timerTicks.remove(hackathonId);
+
+                LocalDateTime deadline = deadlines.get(hackathonId);
+                UrgencyLevel level = UrgencyLevel.of(deadline, now);
+                if (level != levels.get(hackathonId)) {
+                    buckets.get(levels.get(hackathonId)).remove(hackathonId);
+                    buckets.get(level).add(hackathonId);
+                    levels.put(hackathonId, level);
+                    changed++;
+                }
+                schedule(hackathonId, deadline, now);
+            }
+        }
+        return changed;
+    }
+
+    // === Helper Methods ===
+
+    private void add(Long hackathonId, LocalDateTime deadline, LocalDateTime now) {
+        if (deadline == null) {
+            return;
+        }
+        UrgencyLevel level = UrgencyLevel.of(deadline, now);
+        deadlines.put(hackathonId, deadline);
+        levels.put(hackathonId, level);
+        buckets.get(level).add(hackathonId);
+        schedule(hackathonId, deadline, now);
+    }
+
+    private void removeEntry(Long hackathonId) {
+        deadlines.remove(hackathonId);
+        UrgencyLevel level = levels.remove(hackathonId);
+        if (level != null) {
+            buckets.get(level).remove(hackathonId);
+        }
+        Long tick = timerTicks.remove(hackathonId);
+        if (tick != null) {
+            wheel.get(slotOf(tick)).remove(hackathonId);
+        }
+    }
+
+    // Fires on the first tick after the level boundary has passed
+    private void schedule(Long hackathonId, LocalDateTime deadline, LocalDateTime now) {
+        LocalDateTime nextChange = UrgencyLevel.nextChange(deadline, now);
+        if (nextChange == null) {
+            return;
+        }
+        long tick = Math.max(tickOf(nextChange) + 1, currentTick + 1);
+        timerTicks.put(hackathonId, tick);
+        wheel.get(slotOf(tick)).add(hackathonId);
+    }
+
+    private static long tickOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), TICK_SECONDS);
+    }
+
+    private static int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+    }
+}
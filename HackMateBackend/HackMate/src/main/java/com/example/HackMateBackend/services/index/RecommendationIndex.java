@@ -0,0 +1,332 @@
+package com.example.HackMateBackend.services.index;
+
+import com.example.HackMateBackend.data.enums.RegistrationStatus;
+import com.example.HackMateBackend.repositories.HackathonRegistrationRepository;
+import com.example.HackMateBackend.repositories.TeamRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Precomputed teammate/team recommendations per hackathon. For every upcoming hackathon the
+ * registered users without a team and the open teams are encoded as skill bitsets, and each pair
+ * is scored by cosine similarity (shared skills / sqrt(user skills * needed skills)). Only the
+ * top-N teams per user and top-N users per team are kept. Changes mark a hackathon dirty, and
+ * {@link #refresh()} recomputes just the dirty hackathons, in parallel on a fork-join pool.
+ */
+@Component
+@Slf4j
+public class RecommendationIndex {
+
+    // Best first: higher similarity, then the newer (higher) id
+    private static final Comparator<Recommendation> RANKING = Comparator.comparingInt(Recommendation::similarity)
+            .thenComparing(Recommendation::id)
+            .reversed();
+
+    private final HackathonRegistrationRepository registrationRepository;
+    private final TeamRepository teamRepository;
+    private final int topN;
+    private final ForkJoinPool pool;
+
+    private final Map<Long, ScoreTable> tables = new ConcurrentHashMap<>();
+    private final Set<Long> changedHackathons = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedUsers = ConcurrentHashMap.newKeySet();
+
+    public RecommendationIndex(HackathonRegistrationRepository registrationRepository,
+                               TeamRepository teamRepository,
+                               @Value("${app.recommendations.top-n:20}") int topN,
+                               @Value("${app.recommendations.parallelism:0}") int parallelism) {
+        this.registrationRepository = registrationRepository;
+        this.teamRepository = teamRepository;
+        this.topN = topN;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public record Recommendation(Long id, int similarity) {
+    }
+
+    // Skill vectors of one hackathon as loaded from the database, keyed by user and by team
+    record HackathonVectors(Map<Long, Set<String>> userSkills, Map<Long, Set<String>> teamSkills) {
+    }
+
+    private record ScoreTable(Map<String, Integer> skillBits, Map<Long, long[]> userVectors,
+                              Map<Long, long[]> teamVectors, Map<Long, List<Recommendation>> teamsByUser,
+                              Map<Long, List<Recommendation>> usersByTeam) {
+    }
+
+    // Team, registration and profile changes only mark what to recompute; call these after commit
+    public void markHackathonChanged(Long hackathonId) {
+        changedHackathons.add(hackathonId);
+    }
+
+    public void markUserChanged(Long userId) {
+        changedUsers.add(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> hackathonIds = new HashSet<>(
+                registrationRepository.findUpcomingHackathonIdsWithStatus(RegistrationStatus.REGISTERED, now));
+        hackathonIds.addAll(teamRepository.findUpcomingHackathonIdsWithOpenTeams(now));
+
+        tables.keySet().retainAll(hackathonIds);
+        int recomputed = recompute(hackathonIds);
+        log.info("Recommendation index rebuilt for {} hackathons", recomputed);
+    }
+
+    /**
+     * Recomputes the score tables of the hackathons changed since the last refresh and returns how
+     * many were recomputed. If loading fails the changes are kept for the next refresh.
+     */
+    public synchronized int refresh() {
+        Set<Long> hackathonIds = drain(changedHackathons);
+        Set<Long> userIds = drain(changedUsers);
+        try {
+            if (!userIds.isEmpty()) {
+                hackathonIds.addAll(registrationRepository.findHackathonIdsByUserIds(userIds, RegistrationStatus.REGISTERED));
+            }
+            return recompute(hackathonIds);
+        } catch (RuntimeException e) {
+            changedHackathons.addAll(hackathonIds);
+            changedUsers.addAll(userIds);
+            throw e;
+        }
+    }
+
+    public boolean hasUser(Long hackathonId, Long userId) {
+        ScoreTable table = tables.get(hackathonId);
+        return table != null && table.userVectors().containsKey(userId);
+    }
+
+    public boolean hasTeam(Long hackathonId, Long teamId) {
+        ScoreTable table = tables.get(hackathonId);
+        return table != null && table.teamVectors().containsKey(teamId);
+    }
+
+    public List<Recommendation> teamsForUser(Long hackathonId, Long userId, int limit) {
+        ScoreTable table = tables.get(hackathonId);
+        return table == null ? List.of() : head(table.teamsByUser().get(userId), limit);
+    }
+
+    public List<Recommendation> usersForTeam(Long hackathonId, Long teamId, int limit) {
+        ScoreTable table = tables.get(hackathonId);
+        return table == null ? List.of() : head(table.usersByTeam().get(teamId), limit);
+    }
+
+    // Scores skills that are not in the table yet (a new team, a user who registered since the last refresh)
+    public List<Recommendation> rankTeams(Long hackathonId, Collection<String> skills, int limit) {
+        ScoreTable table = tables.get(hackathonId);
+        return table == null ? List.of() : rank(toBits(table.skillBits(), skills), table.teamVectors(), Math.min(limit, topN));
+    }
+
+    public List<Recommendation> rankUsers(Long hackathonId, Collection<String> skills, int limit) {
+        ScoreTable table = tables.get(hackathonId);
+        return table == null ? List.of() : rank(toBits(table.skillBits(), skills), table.userVectors(), Math.min(limit, topN));
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    // === Helper Methods ===
+
+    private static Set<Long> drain(Set<Long> changed) {
+        Set<Long> drained = new HashSet<>();
+        for (Iterator<Long> it = changed.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    private int recompute(Set<Long> hackathonIds) {
+        if (hackathonIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, HackathonVectors> vectors = new HashMap<>();
+        for (Long hackathonId : hackathonIds) {
+            vectors.put(hackathonId, new HackathonVectors(new HashMap<>(), new HashMap<>()));
+        }
+        for (Object[] row : registrationRepository.findUnteamedSkillRows(hackathonIds, RegistrationStatus.REGISTERED)) {
+            Set<String> skills = vectors.get((Long) row[0]).userSkills().computeIfAbsent((Long) row[1], id -> new HashSet<>());
+            addSkill(skills, (String) row[2]);
+            addSkill(skills, (String) row[3]);
+        }
+        for (Object[] row : teamRepository.findOpenTeamSkillsByHackathonIds(hackathonIds)) {
+            addSkill(vectors.get((Long) row[0]).teamSkills().computeIfAbsent((Long) row[1], id -> new HashSet<>()),
+                    (String) row[2]);
+        }
+
+        Map<Long, ScoreTable> computed = pool.invoke(new ScoreTask(new ArrayList<>(vectors.entrySet()), topN));
+        hackathonIds.forEach(hackathonId -> {
+            ScoreTable table = computed.get(hackathonId);
+            if (table.userVectors().isEmpty() && table.teamVectors().isEmpty()) {
+                tables.remove(hackathonId);
+            } else {
+                tables.put(hackathonId, table);
+            }
+        });
+        return hackathonIds.size();
+    }
+
+    private static void addSkill(Set<String> skills, String skill) {
+        String normalized = TeamSkillIndex.normalize(skill);
+        if (!normalized.isEmpty()) {
+            skills.add(normalized);
+        }
+    }
+
+    // Splits the hackathons in halves until one is left; each table is built independently of the others
+    private static final class ScoreTask extends RecursiveTask<Map<Long, ScoreTable>> {
+
+        private final List<Map.Entry<Long, HackathonVectors>> hackathons;
+        private final int topN;
+
+        ScoreTask(List<Map.Entry<Long, HackathonVectors>> hackathons, int topN) {
+            this.hackathons = hackathons;
+            this.topN = topN;
+        }
+
+        @Override
+        protected Map<Long, ScoreTable> compute() {
+            if (hackathons.size() == 1) {
+                Map.Entry<Long, HackathonVectors> hackathon = hackathons.get(0);
+                Map<Long, ScoreTable> result = new HashMap<>();
+                result.put(hackathon.getKey(), buildTable(hackathon.getValue(), topN));
+                return result;
+            }
+
+            int middle = hackathons.size() / 2;
+            ScoreTask left = new ScoreTask(hackathons.subList(0, middle), topN);
+            ScoreTask right = new ScoreTask(hackathons.subList(middle, hackathons.size()), topN);
+            left.fork();
+            Map<Long, ScoreTable> result = right.compute();
+            result.putAll(left.join());
+            return result;
+        }
+    }
+
+    private static ScoreTable buildTable(HackathonVectors hackathon, int topN) {
+        Map<String, Integer> skillBits = new HashMap<>();
+        Map<Long, long[]> userVectors = encode(hackathon.userSkills(), skillBits);
+        Map<Long, long[]> teamVectors = encode(hackathon.teamSkills(), skillBits);
+
+        Map<Long, PriorityQueue<Recommendation>> teamHeaps = new HashMap<>();
+        Map<Long, PriorityQueue<Recommendation>> userHeaps = new HashMap<>();
+        for (Map.Entry<Long, long[]> user : userVectors.entrySet()) {
+            int userSkillCount = bitCount(user.getValue());
+            for (Map.Entry<Long, long[]> team : teamVectors.entrySet()) {
+                int similarity = similarity(user.getValue(), userSkillCount, team.getValue());
+                if (similarity == 0) {
+                    continue;
+                }
+                offer(teamHeaps.computeIfAbsent(user.getKey(), id -> newHeap(topN)),
+                        new Recommendation(team.getKey(), similarity), topN);
+                offer(userHeaps.computeIfAbsent(team.getKey(), id -> newHeap(topN)),
+                        new Recommendation(user.getKey(), similarity), topN);
+            }
+        }
+
+        return new ScoreTable(skillBits, userVectors, teamVectors, drainHeaps(teamHeaps), drainHeaps(userHeaps));
+    }
+
+    private static List<Recommendation> rank(long[] wanted, Map<Long, long[]> vectors, int limit) {
+        int wantedCount = bitCount(wanted);
+        PriorityQueue<Recommendation> heap = newHeap(limit);
+        vectors.forEach((id, vector) -> {
+            int similarity = similarity(wanted, wantedCount, vector);
+            if (similarity > 0) {
+                offer(heap, new Recommendation(id, similarity), limit);
+            }
+        });
+        return sortedDescending(heap);
+    }
+
+    // Cosine similarity of two binary skill vectors, as a percentage
+    private static int similarity(long[] a, int aCount, long[] b) {
+        int shared = 0;
+        for (int i = 0, words = Math.min(a.length, b.length); i < words; i++) {
+            shared += Long.bitCount(a[i] & b[i]);
+        }
+        return shared == 0 ? 0 : (int) Math.round(shared * 100 / Math.sqrt((double) aCount * bitCount(b)));
+    }
+
+    private static int bitCount(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static Map<Long, long[]> encode(Map<Long, Set<String>> skillsById, Map<String, Integer> skillBits) {
+        Map<Long, long[]> vectors = new HashMap<>();
+        skillsById.forEach((id, skills) -> {
+            BitSet bits = new BitSet();
+            skills.forEach(skill -> bits.set(skillBits.computeIfAbsent(skill, key -> skillBits.size())));
+            vectors.put(id, bits.toLongArray());
+        });
+        return vectors;
+    }
+
+    // Skills nobody in the hackathon has cannot match anything, so they are left out
+    private static long[] toBits(Map<String, Integer> skillBits, Collection<String> skills) {
+        long[] bits = new long[(skillBits.size() + 63) / 64];
+        for (String skill : skills) {
+            Integer bit = skillBits.get(TeamSkillIndex.normalize(skill));
+            if (bit != null) {
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return bits;
+    }
+
+    // Reversed ranking: the head is the worst recommendation kept so far
+    private static PriorityQueue<Recommendation> newHeap(int limit) {
+        return new PriorityQueue<>(Math.max(limit, 1), RANKING.reversed());
+    }
+
+    private static void offer(PriorityQueue<Recommendation> heap, Recommendation candidate, int limit) {
+        if (heap.size() < limit) {
+            heap.add(candidate);
+        } else if (limit > 0 && RANKING.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    private static Map<Long, List<Recommendation>> drainHeaps(Map<Long, PriorityQueue<Recommendation>> heaps) {
+        Map<Long, List<Recommendation>> lists = new HashMap<>();
+        heaps.forEach((id, heap) -> lists.put(id, sortedDescending(heap)));
+        return lists;
+    }
+
+    private static List<Recommendation> sortedDescending(PriorityQueue<Recommendation> heap) {
+        List<Recommendation> sorted = new ArrayList<>(heap);
+        sorted.sort(RANKING);
+        return List.copyOf(sorted);
+    }
+
+    private static List<Recommendation> head(List<Recommendation> recommendations, int limit) {
+        if (recommendations == null) {
+            return List.of();
+        }
+        return recommendations.subList(0, Math.min(limit, recommendations.size()));
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.HackMateBackend.services.index;
+
+import com.example.HackMateBackend.data.entities.Team;
+import com.example.HackMateBackend.repositories.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over the names and descriptions of the public, active teams of every
+ * hackathon. A team matches when enough of the query's trigrams occur in its name or description,
+ * so "hakmate" still finds "HackMate"; containing the query verbatim always counts as a full match.
+ * Every hackathon has its own postings over dense slots, so a search only touches the teams of that
+ * hackathon and counts trigram hits in a flat array.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamSearchIndex {
+
+    // The same words in the description say less about a team than in its name
+    private static final double DESCRIPTION_WEIGHT = 0.8;
+
+    private final TeamRepository teamRepository;
+
+    // Share of the query's trigrams a team has to contain to match
+    @Value("${app.team-search.min-similarity:0.4}")
+    private double minSimilarity;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Shard> shards = new HashMap<>();
+    private final Map<Long, Long> hackathonByTeam = new HashMap<>();
+
+    // What the index needs from a team, taken inside the transaction so it can be applied after commit
+    public record TeamText(Long teamId, Long hackathonId, String teamName, String description,
+                           LocalDateTime createdAt, boolean searchable) {
+
+        public static TeamText of(Team team) {
+            return new TeamText(team.getId(), team.getHackathon().getId(), team.getTeamName(), team.getDescription(),
+                    team.getCreatedAt(), !team.isDeleted() && team.isPublic() && team.isActive());
+        }
+    }
+
+    /**
+     * @param teamIds       the requested page, best match first
+     * @param totalElements number of matching teams
+     */
+    public record SearchPage(List<Long> teamIds, long totalElements) {
+    }
+
+    private record IndexedTeam(Long teamId, String name, String description, long[] nameTrigrams,
+                               long[] descriptionTrigrams, LocalDateTime createdAt) {
+    }
+
+    private record ScoredTeam(Long teamId, double score, LocalDateTime createdAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> searchableTeams = teamRepository.findSearchableTeamTexts();
+
+        lock.writeLock().lock();
+        try {
+            shards.clear();
+            hackathonByTeam.clear();
+            for (Object[] row : searchableTeams) {
+                addTeam(new TeamText((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                        (LocalDateTime) row[4], true));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Team search index rebuilt with {} teams", searchableTeams.size());
+    }
+
+    // Adds or refreshes the team, or drops it when it can no longer be searched
+    public void index(TeamText team) {
+        lock.writeLock().lock();
+        try {
+            removeTeam(team.teamId());
+            if (team.searchable()) {
+                addTeam(team);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long teamId) {
+        lock.writeLock().lock();
+        try {
+            removeTeam(teamId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the hackathon's teams by similarity to the query, newest first within equal scores.
+     * Only the first (page + 1) * size teams are kept on a bounded heap.
+     */
+    public SearchPage search(Long hackathonId, String query, int page, int size) {
+        String normalizedQuery = normalize(query);
+        long[] queryTrigrams = trigrams(normalizedQuery);
+        if (queryTrigrams.length == 0) {
+            return new SearchPage(List.of(), 0);
+        }
+        int innerTrigrams = (int) Arrays.stream(queryTrigrams).filter(trigram -> !hasPadding(trigram)).count();
+        boolean matchesWithinWords = innerTrigrams == 0;
+
+        Comparator<ScoredTeam> ranking = Comparator.comparingDouble(ScoredTeam::score).reversed()
+                .thenComparing(ScoredTeam::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(ScoredTeam::teamId, Comparator.reverseOrder());
+
+        lock.readLock().lock();
+        try {
+            Shard shard = shards.get(hackathonId);
+            if (shard == null) {
+                return new SearchPage(List.of(), 0);
+            }
+
+            FieldHits nameHits = shard.countHits(shard.namePostings, queryTrigrams);
+            FieldHits descriptionHits = shard.countHits(shard.descriptionPostings, queryTrigrams);
+            long limit = Math.min((long) (page + 1) * size, shard.slotByTeam.size());
+
+            // Max-heap on the ranking: its head is the worst team kept so far
+            PriorityQueue<ScoredTeam> heap = new PriorityQueue<>((int) Math.max(limit, 1), ranking.reversed());
+            long total = 0;
+            for (int slot = 0; slot < shard.slots.size(); slot++) {
+                IndexedTeam team = shard.slots.get(slot);
+                if (team == null || (nameHits.all()[slot] == 0 && descriptionHits.all()[slot] == 0)) {
+                    continue;
+                }
+
+                // Only a field holding every trigram inside the query's words can contain it verbatim
+                double name = similarity(team.name(), normalizedQuery, nameHits.all()[slot], queryTrigrams.length,
+                        matchesWithinWords || nameHits.inner()[slot] == innerTrigrams);
+                double description = name >= 1.0 ? 0 : similarity(team.description(), normalizedQuery,
+                        descriptionHits.all()[slot], queryTrigrams.length,
+                        matchesWithinWords || descriptionHits.inner()[slot] == innerTrigrams);
+                double score = Math.max(name, DESCRIPTION_WEIGHT * description);
+                if (score < minSimilarity) {
+                    continue;
+                }
+                total++;
+                if (limit == 0 || (heap.size() == limit && score < heap.peek().score())) {
+                    continue;
+                }
+
+                ScoredTeam scored = new ScoredTeam(team.teamId(), score, team.createdAt());
+                if (heap.size() < limit) {
+                    heap.add(scored);
+                } else if (ranking.compare(scored, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(scored);
+                }
+            }
+
+            List<ScoredTeam> top = new ArrayList<>(heap);
+            top.sort(ranking);
+            int from = (int) Math.min((long) page * size, top.size());
+            List<Long> pageIds = top.subList(from, top.size()).stream().map(ScoredTeam::teamId).toList();
+            return new SearchPage(pageIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return hackathonByTeam.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lower case, with every run of other characters than letters and digits turned into a single space
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{Nd}]+", " ").trim();
+    }
+
+    // === Helper Methods ===
+
+    // Share of the query trigrams found in the field, 1 when the field contains the query verbatim
+    private static double similarity(String field, String query, int hits, int queryTrigrams, boolean mayContain) {
+        if (hits == queryTrigrams || (mayContain && field.contains(query))) {
+            return 1.0;
+        }
+        return (double) hits / queryTrigrams;
+    }
+
+    // Trigrams with a space come from the padding around a word, so they are only found at word boundaries
+    private static boolean hasPadding(long trigram) {
+        return (trigram >>> 32) == ' ' || ((trigram >>> 16) & 0xFFFF) == ' ' || (trigram & 0xFFFF) == ' ';
+    }
+
+    // Distinct trigrams of every word, padded as "  word " so that word starts and ends weigh in
+    private static long[] trigrams(String normalizedText) {
+        if (normalizedText.isEmpty()) {
+            return new long[0];
+        }
+
+        Set<Long> trigrams = new HashSet<>();
+        for (String word : normalizedText.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void addTeam(TeamText text) {
+        String name = normalize(text.teamName());
+        String description = normalize(text.description());
+        IndexedTeam team = new IndexedTeam(text.teamId(), name, description, trigrams(name), trigrams(description),
+                text.createdAt());
+
+        Shard shard = shards.computeIfAbsent(text.hackathonId(), id -> new Shard());
+        int slot = shard.freeSlots.isEmpty() ? shard.slots.size() : shard.freeSlots.pop();
+        if (slot == shard.slots.size()) {
+            shard.slots.add(team);
+        } else {
+            shard.slots.set(slot, team);
+        }
+        shard.slotByTeam.put(team.teamId(), slot);
+        for (long trigram : team.nameTrigrams()) {
+            shard.namePostings.computeIfAbsent(trigram, key -> new SlotList()).add(slot);
+        }
+        for (long trigram : team.descriptionTrigrams()) {
+            shard.descriptionPostings.computeIfAbsent(trigram, key -> new SlotList()).add(slot);
+        }
+        hackathonByTeam.put(team.teamId(), text.hackathonId());
+    }
+
+    private void removeTeam(Long teamId) {
+        Long hackathonId = hackathonByTeam.remove(teamId);
+        if (hackathonId == null) {
+            return;
+        }
+
+        Shard shard = shards.get(hackathonId);
+        int slot = shard.slotByTeam.remove(teamId);
+        IndexedTeam team = shard.slots.get(slot);
+        removePostings(shard.namePostings, team.nameTrigrams(), slot);
+        removePostings(shard.descriptionPostings, team.descriptionTrigrams(), slot);
+        shard.slots.set(slot, null);
+        shard.freeSlots.push(slot);
+
+        if (shard.slotByTeam.isEmpty()) {
+            shards.remove(hackathonId);
+        }
+    }
+
+    private static void removePostings(Map<Long, SlotList> postings, long[] trigrams, int slot) {
+        for (long trigram : trigrams) {
+            SlotList slots = postings.get(trigram);
+            slots.remove(slot);
+            if (slots.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    // The teams of one hackathon; a removed team leaves an empty slot that the next added team reuses
+    private static final class Shard {
+        private final List<IndexedTeam> slots = new ArrayList<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final Map<Long, Integer> slotByTeam = new HashMap<>();
+        private final Map<Long, SlotList> namePostings = new HashMap<>();
+        private final Map<Long, SlotList> descriptionPostings = new HashMap<>();
+
+        private FieldHits countHits(Map<Long, SlotList> postings, long[] queryTrigrams) {
+            FieldHits hits = new FieldHits(new int[slots.size()], new int[slots.size()]);
+            for (long trigram : queryTrigrams) {
+                SlotList matching = postings.get(trigram);
+                if (matching == null) {
+                    continue;
+                }
+                int[] counts = hasPadding(trigram) ? null : hits.inner();
+                for (int i = 0; i < matching.size; i++) {
+                    hits.all()[matching.slots[i]]++;
+                    if (counts != null) {
+                        counts[matching.slots[i]]++;
+                    }
+                }
+            }
+            return hits;
+        }
+    }
+
+    // Query trigrams found per slot, in total and counting only those inside words
+    private record FieldHits(int[] all, int[] inner) {
+    }
+
+    // Unordered list of slots; removal swaps the last slot in
+    private static final class SlotList {
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        private void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
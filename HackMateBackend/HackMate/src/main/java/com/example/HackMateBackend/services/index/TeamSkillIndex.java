@@ -0,0 +1,217 @@
+package com.example.HackMateBackend.services.index;
+
+import com.example.HackMateBackend.data.entities.Team;
+import com.example.HackMateBackend.repositories.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the open teams (public, active, not full) of every hackathon, with the
+ * skills each team needs encoded as a bitset over a shared skill dictionary. A searcher's match
+ * with a team is one popcount per 64 skills, so the whole hackathon can be ranked per request
+ * instead of only the page the database returned. Skills are matched case-insensitively.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamSkillIndex {
+
+    private final TeamRepository teamRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> skillBits = new HashMap<>();
+    private final Map<Long, Map<Long, IndexedTeam>> teamsByHackathon = new HashMap<>();
+    private final Map<Long, Long> hackathonByTeam = new HashMap<>();
+
+    // What the index needs from a team, taken inside the transaction so it can be applied after commit
+    public record TeamSnapshot(Long teamId, Long hackathonId, List<String> skillsNeeded,
+                               LocalDateTime createdAt, boolean open) {
+
+        public static TeamSnapshot of(Team team) {
+            boolean open = !team.isDeleted() && team.isPublic() && team.isActive() && !team.isFull()
+                    && team.getCurrentSize() < team.getMaxSize();
+            return new TeamSnapshot(team.getId(), team.getHackathon().getId(),
+                    open ? List.copyOf(team.getSkillsNeeded()) : List.of(), team.getCreatedAt(), open);
+        }
+    }
+
+    public record RankedTeam(Long teamId, int matchPercentage) {
+    }
+
+    /**
+     * @param teams         the requested page, best match first (or worst first when ascending)
+     * @param totalElements number of teams in the ranking
+     */
+    public record RankedPage(List<RankedTeam> teams, long totalElements) {
+    }
+
+    private record IndexedTeam(Long teamId, long[] skills, int skillCount, LocalDateTime createdAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> openTeams = teamRepository.findOpenTeamSummaries();
+        Map<Long, List<String>> skillsByTeam = new HashMap<>();
+        for (Object[] row : teamRepository.findOpenTeamSkills()) {
+            skillsByTeam.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            skillBits.clear();
+            teamsByHackathon.clear();
+            hackathonByTeam.clear();
+            for (Object[] row : openTeams) {
+                Long teamId = (Long) row[0];
+                addTeam(teamId, (Long) row[1], skillsByTeam.getOrDefault(teamId, List.of()), (LocalDateTime) row[2]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Team skill index rebuilt with {} open teams and {} skills", openTeams.size(), skillBits.size());
+    }
+
+    // Adds or refreshes the team, or drops it when it is no longer open
+    public void index(TeamSnapshot team) {
+        lock.writeLock().lock();
+        try {
+            removeTeam(team.teamId());
+            if (team.open()) {
+                addTeam(team.teamId(), team.hackathonId(), team.skillsNeeded(), team.createdAt());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long teamId) {
+        lock.writeLock().lock();
+        try {
+            removeTeam(teamId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the open teams of the hackathon by match percentage (matched needed skills / needed
+     * skills), newest first within equal matches. When userSkills is given only teams matching at
+     * least one skill are ranked, as in the database skill search. Only the first (page + 1) * size
+     * teams are kept on a bounded heap, so a page costs O(n log k) rather than a full sort.
+     */
+    public RankedPage rank(Long hackathonId, Collection<String> userSkills, boolean descending, int page, int size) {
+        Comparator<IndexedMatch> ranking = Comparator.comparingInt(IndexedMatch::matchPercentage);
+        if (descending) {
+            ranking = ranking.reversed();
+        }
+        ranking = ranking
+                .thenComparing(IndexedMatch::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(IndexedMatch::teamId, Comparator.reverseOrder());
+
+        lock.readLock().lock();
+        try {
+            Map<Long, IndexedTeam> teams = teamsByHackathon.getOrDefault(hackathonId, Map.of());
+            long limit = Math.min((long) (page + 1) * size, teams.size());
+            boolean requireMatch = userSkills != null && !userSkills.isEmpty();
+            long[] wanted = requireMatch ? toBits(userSkills) : new long[0];
+
+            // Max-heap on the ranking: its head is the worst team kept so far
+            PriorityQueue<IndexedMatch> heap = new PriorityQueue<>((int) Math.max(limit, 1), ranking.reversed());
+            long total = 0;
+            for (IndexedTeam team : teams.values()) {
+                int matched = matchedSkills(team.skills(), wanted);
+                if (requireMatch && matched == 0) {
+                    continue;
+                }
+                total++;
+                if (limit == 0) {
+                    continue;
+                }
+
+                int percentage = team.skillCount() == 0 ? 0 : matched * 100 / team.skillCount();
+                IndexedMatch match = new IndexedMatch(team.teamId(), percentage, team.createdAt());
+                if (heap.size() < limit) {
+                    heap.add(match);
+                } else if (ranking.compare(match, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(match);
+                }
+            }
+
+            List<IndexedMatch> top = new ArrayList<>(heap);
+            top.sort(ranking);
+            int from = (int) Math.min((long) page * size, top.size());
+            List<RankedTeam> pageTeams = top.subList(from, top.size()).stream()
+                    .map(match -> new RankedTeam(match.teamId(), match.matchPercentage()))
+                    .toList();
+            return new RankedPage(pageTeams, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String normalize(String skill) {
+        return Team.normalizeSkill(skill);
+    }
+
+    // === Helper Methods ===
+
+    private record IndexedMatch(Long teamId, int matchPercentage, LocalDateTime createdAt) {
+    }
+
+    private static int matchedSkills(long[] teamSkills, long[] wanted) {
+        int matched = 0;
+        for (int i = 0, words = Math.min(teamSkills.length, wanted.length); i < words; i++) {
+            matched += Long.bitCount(teamSkills[i] & wanted[i]);
+        }
+        return matched;
+    }
+
+    // Skills nobody has indexed yet cannot match anything, so they are left out
+    private long[] toBits(Collection<String> skills) {
+        long[] bits = new long[(skillBits.size() + 63) / 64];
+        for (String skill : skills) {
+            Integer bit = skillBits.get(normalize(skill));
+            if (bit != null) {
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return bits;
+    }
+
+    // Dictionary bits are never reused; the next rebuild drops skills no open team needs anymore
+    private void addTeam(Long teamId, Long hackathonId, Collection<String> skillsNeeded, LocalDateTime createdAt) {
+        BitSet bits = new BitSet();
+        for (String skill : skillsNeeded) {
+            String normalized = normalize(skill);
+            if (!normalized.isEmpty()) {
+                bits.set(skillBits.computeIfAbsent(normalized, key -> skillBits.size()));
+            }
+        }
+
+        teamsByHackathon.computeIfAbsent(hackathonId, id -> new HashMap<>())
+                .put(teamId, new IndexedTeam(teamId, bits.toLongArray(), bits.cardinality(), createdAt));
+        hackathonByTeam.put(teamId, hackathonId);
+    }
+
+    private void removeTeam(Long teamId) {
+        Long hackathonId = hackathonByTeam.remove(teamId);
+        if (hackathonId == null) {
+            return;
+        }
+
+        Map<Long, IndexedTeam> teams = teamsByHackathon.get(hackathonId);
+        teams.remove(teamId);
+        if (teams.isEmpty()) {
+            teamsByHackathon.remove(hackathonId);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.HackMateBackend.services.interfaces;
 
+import com.example.HackMateBackend.dtos.hackathon.BatchReviewResponseDto;
 import com.example.HackMateBackend.dtos.hackathon.CreateHackathonRequestDto;
 import com.example.HackMateBackend.dtos.hackathon.CreateHackathonResponseDto;
 import com.example.HackMateBackend.dtos.hackathon.HackathonListResponseDto;
@@ -16,12 +17,16 @@ import com.example.HackMateBackend.dtos.hackathon.HackathonListItemDto;
 import com.example.HackMateBackend.data.entities.Hackathon;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 public interface HackathonService {
 
     // Public endpoints
-    HackathonListResponseDto getPublicHackathonFeed(HackathonFilterRequestDto filterRequest);
+    HackathonListResponseDto getPublicHackathonFeed(HackathonFilterRequestDto filterRequest, Long userId);
+    Optional<String> getFeedETag(HackathonFilterRequestDto filterRequest, Long userId);
+    Optional<String> getHackathonDetailsETag(Long hackathonId, Long userId);
     HackathonDetailsResponseDto getHackathonDetails(Long hackathonId, Long userId);
 
     // User endpoints
@@ -32,15 +37,21 @@ public interface HackathonService {
     HackathonListResponseDto getUserStarredHackathons(Long userId, Pageable pageable);
 
     // Admin endpoints
-    HackathonListResponseDto getPendingHackathons();
+    HackathonListResponseDto getPendingHackathons(int page, int size, String cursor);
     CreateHackathonResponseDto approveHackathon(Long hackathonId, Long adminId);
     CreateHackathonResponseDto rejectHackathon(Long hackathonId, Long adminId);
+    BatchReviewResponseDto approveHackathons(List<Long> hackathonIds, Long adminId);
+    BatchReviewResponseDto rejectHackathons(List<Long> hackathonIds, Long adminId);
 
     // AI endpoints
     AIExtractionResponseDto extractHackathonData(AIExtractionRequestDto request);
+    void extractHackathonDataBulk(List<String> messages, BiConsumer<Integer, AIExtractionResponseDto> onResult);
 
     Optional<Hackathon> findById(Long id);
     void incrementViewCount(Long hackathonId);
+    int flushViewCounts();
+    int refreshUrgencyLevels();
+    int archiveExpiredHackathons();
     boolean isUserRegistered(Long hackathonId, Long userId);
     boolean isUserStarred(Long hackathonId, Long userId);
 }
\ No newline at end of file
@@ -26,6 +26,9 @@ public interface NotificationService {
     void createHackathonDeadlineNotification(Hackathon hackathon, Long userId, int hoursRemaining);
     void createTeamUpdateNotification(Long teamId, String message);
 
+    // Reminds registered and starring users of approaching deadlines, returns the number of notifications sent
+    int sendDeadlineReminders();
+
     // Cleanup
     void cleanupExpiredNotifications();
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.HackMateBackend.services.interfaces;
+
+import com.example.HackMateBackend.dtos.team.CandidateRecommendationsResponseDto;
+import com.example.HackMateBackend.dtos.team.TeamRecommendationsResponseDto;
+
+public interface RecommendationService {
+
+    // Open teams whose needed skills best match the user's skills
+    TeamRecommendationsResponseDto recommendTeams(Long hackathonId, Long userId, int limit);
+
+    // Registered users without a team whose skills best match what the team needs (leader only)
+    CandidateRecommendationsResponseDto recommendCandidates(Long teamId, Long leaderId, int limit);
+
+    // Maintenance
+    int refreshRecommendations();
+    void rebuildRecommendations();
+}
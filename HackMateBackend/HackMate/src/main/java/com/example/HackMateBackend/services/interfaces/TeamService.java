@@ -4,6 +4,7 @@ import com.example.HackMateBackend.dtos.team.*;
 import com.example.HackMateBackend.data.entities.Team;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TeamService {
 
@@ -19,7 +20,9 @@ public interface TeamService {
 
     // Team data
     TeamSearchResponseDto getUserTeams(Long userId);
-    TeamExportResponseDto exportTeamData(TeamExportRequestDto request, Long userId);
+    TeamExportDto prepareTeamExport(TeamExportRequestDto request, Long userId);
+    TeamExportDto prepareHackathonExport(Long hackathonId, String format, boolean includeContactInfo, Long userId);
+    void streamRoster(TeamExportDto export, Consumer<TeamRosterRowDto> onRow);
 
     // Utility methods
     Optional<Team> findById(Long id);
@@ -0,0 +1,132 @@
+package com.example.HackMateBackend.utils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 64-bit SimHash over word bigrams of a hackathon announcement, plus a normalized form of
+ * its registration link. Reposts of the same announcement (re-wrapped, a line added or
+ * an emoji dropped) land within a few bits of each other.
+ */
+public final class ContentFingerprint {
+
+    // Shorter texts give fingerprints that collide by chance, so they are not fingerprinted
+    private static final int MIN_FEATURES = 8;
+
+    private ContentFingerprint() {
+    }
+
+    /**
+     * @return the fingerprint, or null when the text is too short to fingerprint reliably
+     */
+    public static Long simHash(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() > 1) {
+                words.add(word);
+            }
+        }
+
+        Map<String, Integer> features = new HashMap<>();
+        for (int i = 0; i + 1 < words.size(); i++) {
+            features.merge(words.get(i) + " " + words.get(i + 1), 1, Integer::sum);
+        }
+        if (features.size() < MIN_FEATURES) {
+            return null;
+        }
+
+        int[] weights = new int[64];
+        features.forEach((feature, count) -> {
+            long hash = hash64(feature);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) != 0 ? count : -count;
+            }
+        });
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * Lower-cased host without "www.", path without trailing slash, query without utm_* and
+     * similar tracking parameters, no scheme or fragment. Unparseable links are only trimmed.
+     */
+    public static String normalizeLink(String link) {
+        if (link == null || link.isBlank()) {
+            return null;
+        }
+
+        String trimmed = link.trim();
+        try {
+            URI uri = new URI(trimmed.contains("://") ? trimmed : "https://" + trimmed);
+            if (uri.getHost() == null) {
+                return trimmed.toLowerCase(Locale.ROOT);
+            }
+
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+
+            String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+            while (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            String query = "";
+            if (uri.getRawQuery() != null) {
+                query = Arrays.stream(uri.getRawQuery().split("&"))
+                        .filter(param -> !param.isEmpty() && !isTrackingParameter(param))
+                        .sorted()
+                        .collect(Collectors.joining("&"));
+            }
+
+            return host + path + (query.isEmpty() ? "" : "?" + query);
+        } catch (URISyntaxException e) {
+            return trimmed.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private static boolean isTrackingParameter(String param) {
+        String name = param.toLowerCase(Locale.ROOT);
+        return name.startsWith("utm_") || name.startsWith("ref=") || name.startsWith("fbclid=")
+                || name.startsWith("gclid=") || name.startsWith("si=");
+    }
+
+    // FNV-1a followed by a murmur3 finalizer so every output bit depends on every input char
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.HackMateBackend.utils;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a keyset scroll position into an opaque, URL-safe cursor string and back.
+ * Clients only ever echo the cursor they received, they never build one themselves.
+ */
+public final class CursorCodec {
+
+    private static final String VERSION = "v1";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+
+        String keys = keyset.getKeys().entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + typeOf(entry.getValue()) + ":" +
+                        URLEncoder.encode(String.valueOf(entry.getValue()), StandardCharsets.UTF_8))
+                .collect(Collectors.joining(","));
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION + "|" + keys).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 2);
+            if (parts.length != 2 || !VERSION.equals(parts[0]) || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Unsupported cursor version");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String key : parts[1].split(",")) {
+                String[] fields = key.split(":", 3);
+                String value = URLDecoder.decode(fields[2], StandardCharsets.UTF_8);
+                keys.put(fields[0], parse(fields[1], value));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    private static String typeOf(Object value) {
+        if (value instanceof Long) return "L";
+        if (value instanceof Integer) return "I";
+        if (value instanceof Boolean) return "B";
+        if (value instanceof LocalDateTime) return "T";
+        return "S";
+    }
+
+    private static Object parse(String type, String value) {
+        return switch (type) {
+            case "L" -> Long.valueOf(value);
+            case "I" -> Integer.valueOf(value);
+            case "B" -> Boolean.valueOf(value);
+            case "T" -> LocalDateTime.parse(value);
+            case "S" -> value;
+            default -> throw new IllegalArgumentException("Unknown cursor value type: " + type);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.HackMateBackend.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers work until the current transaction has committed, so in-memory indexes and caches
+ * only ever see state that actually reached the database. Outside a transaction the action
+ * runs straight away.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.HackMateBackend.services;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.entities.HackathonRegistration;
+import com.example.HackMateBackend.data.entities.User;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.repositories.HackathonRegistrationRepository;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import com.example.HackMateBackend.repositories.NotificationRepository;
+import com.example.HackMateBackend.repositories.UserRepository;
+import com.example.HackMateBackend.services.implementations.NotificationServiceImpl;
+import com.example.HackMateBackend.services.interfaces.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deadline reminders go out once per window and deadline: reruns skip users already reminded,
+ * while a moved deadline reminds them again.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(NotificationServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DeadlineReminderTest {
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private HackathonRepository hackathonRepository;
+
+	@Autowired
+	private HackathonRegistrationRepository registrationRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private int userCount;
+
+	@AfterEach
+	void tearDown() {
+		notificationRepository.deleteAll();
+		registrationRepository.deleteAll();
+		hackathonRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void movedDeadlineRemindsAgain() {
+		Hackathon hackathon = createHackathon(LocalDateTime.now().plusHours(12));
+		for (int i = 0; i < 3; i++) {
+			registrationRepository.save(HackathonRegistration.createRegistration(hackathon, createUser()));
+		}
+
+		assertThat(notificationService.sendDeadlineReminders()).isEqualTo(3);
+		assertThat(notificationService.sendDeadlineReminders()).isZero();
+
+		hackathon.setDeadline(hackathon.getDeadline().plusHours(6));
+		hackathonRepository.save(hackathon);
+
+		assertThat(notificationService.sendDeadlineReminders()).isEqualTo(3);
+		assertThat(notificationRepository.count()).isEqualTo(6);
+	}
+
+	// === Helper Methods ===
+
+	private Hackathon createHackathon(LocalDateTime deadline) {
+		Hackathon hackathon = new Hackathon();
+		hackathon.setTitle("Reminder Hackathon");
+		hackathon.setRegistrationLink("https://example.com/reminder");
+		hackathon.setDeadline(deadline);
+		hackathon.setStatus(Status.ACCEPTED);
+		hackathon.setPostedBy(createUser());
+		return hackathonRepository.save(hackathon);
+	}
+
+	private User createUser() {
+		User user = new User();
+		user.setEmail("reminder" + (userCount++) + "@example.com");
+		user.setPassword("secret");
+		return userRepository.save(user);
+	}
+}
@@ -0,0 +1,267 @@
+package com.example.HackMateBackend.services;
+
+import com.example.HackMateBackend.data.entities.ArchivedTeam;
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.entities.HackathonRegistration;
+import com.example.HackMateBackend.data.entities.JoinRequest;
+import com.example.HackMateBackend.data.entities.Profile;
+import com.example.HackMateBackend.data.entities.Review;
+import com.example.HackMateBackend.data.entities.Team;
+import com.example.HackMateBackend.data.entities.TeamMember;
+import com.example.HackMateBackend.data.entities.User;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.data.enums.TeamRole;
+import com.example.HackMateBackend.dtos.hackathon.HackathonListItemDto;
+import com.example.HackMateBackend.dtos.hackathon.HackathonListResponseDto;
+import com.example.HackMateBackend.repositories.ArchivedHackathonRepository;
+import com.example.HackMateBackend.repositories.ArchivedJoinRequestRepository;
+import com.example.HackMateBackend.repositories.ArchivedTeamRepository;
+import com.example.HackMateBackend.repositories.HackathonRegistrationRepository;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import com.example.HackMateBackend.repositories.JoinRequestRepository;
+import com.example.HackMateBackend.repositories.ProfileRepository;
+import com.example.HackMateBackend.repositories.ReviewRepository;
+import com.example.HackMateBackend.repositories.TeamMemberRepository;
+import com.example.HackMateBackend.repositories.TeamRepository;
+import com.example.HackMateBackend.repositories.UserRepository;
+import com.example.HackMateBackend.services.cache.HackathonETags;
+import com.example.HackMateBackend.services.cache.HackathonFeedCache;
+import com.example.HackMateBackend.services.cache.HackathonViewCounter;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.extraction.HackathonExtractionEngine;
+import com.example.HackMateBackend.services.implementations.HackathonServiceImpl;
+import com.example.HackMateBackend.services.index.HackathonDuplicateIndex;
+import com.example.HackMateBackend.services.index.HackathonSearchIndex;
+import com.example.HackMateBackend.services.index.HackathonTagIndex;
+import com.example.HackMateBackend.services.index.HackathonUrgencyIndex;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSearchIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
+import com.example.HackMateBackend.services.interfaces.HackathonService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archiving a long-expired hackathon moves its teams, members and join requests along with it,
+ * keeps its reviews and buffered views, and leaves the user's own lists complete.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({HackathonServiceImpl.class, HackathonSearchIndex.class, HackathonTagIndex.class, HackathonUrgencyIndex.class,
+		HackathonDuplicateIndex.class, HackathonViewCounter.class, HackathonFeedCache.class, HackathonETags.class,
+		HackathonExtractionEngine.class, RecommendationIndex.class, TeamSkillIndex.class, TeamSearchIndex.class,
+		TeamCountCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HackathonArchiveTest {
+
+	@TestConfiguration
+	static class MetricsConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private HackathonService hackathonService;
+
+	@Autowired
+	private HackathonViewCounter viewCounter;
+
+	@Autowired
+	private TeamSearchIndex teamSearchIndex;
+
+	@Autowired
+	private HackathonRepository hackathonRepository;
+
+	@Autowired
+	private HackathonRegistrationRepository registrationRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private TeamMemberRepository teamMemberRepository;
+
+	@Autowired
+	private JoinRequestRepository joinRequestRepository;
+
+	@Autowired
+	private ProfileRepository profileRepository;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ArchivedHackathonRepository archivedHackathonRepository;
+
+	@Autowired
+	private ArchivedTeamRepository archivedTeamRepository;
+
+	@Autowired
+	private ArchivedJoinRequestRepository archivedJoinRequestRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private int userCount;
+
+	@AfterEach
+	void tearDown() {
+		for (String table : List.of("archived_join_request_skills", "archived_join_requests", "archived_team_members",
+				"archived_team_skills_needed", "archived_team_skills_filled", "archived_teams")) {
+			jdbcTemplate.update("DELETE FROM " + table);
+		}
+		reviewRepository.deleteAll();
+		profileRepository.deleteAll();
+		for (String table : List.of("archived_hackathon_registrations", "archived_hackathon_tags", "archived_hackathons")) {
+			jdbcTemplate.update("DELETE FROM " + table);
+		}
+		joinRequestRepository.deleteAll();
+		teamMemberRepository.deleteAll();
+		teamRepository.deleteAll();
+		registrationRepository.deleteAll();
+		hackathonRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void archivingMovesTeamsAndKeepsReviewsViewsAndUserLists() {
+		User member = createUser();
+		User requester = createUser();
+		Hackathon expired = createHackathon("Expired Hackathon", LocalDateTime.now().minusDays(60));
+		Hackathon upcoming = createHackathon("Upcoming Hackathon", LocalDateTime.now().plusDays(5));
+		registrationRepository.save(HackathonRegistration.createRegistration(expired, member));
+		registrationRepository.save(HackathonRegistration.createRegistration(upcoming, member));
+
+		Team team = createTeam(expired, member);
+		teamSearchIndex.rebuild();
+		createJoinRequest(team, requester);
+		Review review = createReview(requester, member, expired);
+		for (int i = 0; i < 3; i++) {
+			viewCounter.increment(expired.getId());
+		}
+
+		assertThat(hackathonService.archiveExpiredHackathons()).isEqualTo(1);
+
+		assertThat(hackathonRepository.findById(expired.getId())).isEmpty();
+		assertThat(teamRepository.count()).isZero();
+		assertThat(teamMemberRepository.count()).isZero();
+		assertThat(joinRequestRepository.count()).isZero();
+		assertThat(teamSearchIndex.size()).isZero();
+
+		// views buffered before the move were written to the row that moved
+		assertThat(archivedHackathonRepository.findById(expired.getId()).orElseThrow().getViewCount()).isEqualTo(3L);
+		assertThat(viewCounter.pendingViews(expired.getId())).isZero();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT archived_hackathon_id FROM reviews WHERE id = ?",
+				Long.class, review.getId())).isEqualTo(expired.getId());
+
+		HackathonListResponseDto registered = hackathonService.getUserRegisteredHackathons(member.getId(),
+				PageRequest.of(0, 10));
+		assertThat(registered.getTotalElements()).isEqualTo(2);
+		assertThat(registered.getHackathons()).extracting(HackathonListItemDto::getTitle)
+				.containsExactly("Expired Hackathon", "Upcoming Hackathon");
+		assertThat(registered.getHackathons()).allSatisfy(item -> assertThat(item.isRegistered()).isTrue());
+
+		List<ArchivedTeam> archivedTeams = archivedTeamRepository.findTeamsByMember(member.getId());
+		assertThat(archivedTeams).extracting(ArchivedTeam::getTeamName).containsExactly("Archived Team");
+		assertThat(archivedTeamRepository.findById(team.getId()).orElseThrow().getHackathonId())
+				.isEqualTo(expired.getId());
+
+		List<Object[]> requests = archivedJoinRequestRepository.findByRequesterWithTeam(requester.getId());
+		assertThat(requests).hasSize(1);
+		assertThat(requests.get(0)[1]).isEqualTo("Archived Team");
+		assertThat(requests.get(0)[2]).isEqualTo("Expired Hackathon");
+	}
+
+	// === Helper Methods ===
+
+	private Hackathon createHackathon(String title, LocalDateTime deadline) {
+		Hackathon hackathon = new Hackathon();
+		hackathon.setTitle(title);
+		hackathon.setRegistrationLink("https://example.com/" + title.hashCode());
+		hackathon.setDeadline(deadline);
+		hackathon.setStatus(Status.ACCEPTED);
+		hackathon.setTags(List.of("ai"));
+		hackathon.setPostedBy(createUser());
+		return hackathonRepository.save(hackathon);
+	}
+
+	private Team createTeam(Hackathon hackathon, User leader) {
+		Team team = new Team();
+		team.setTeamName("Archived Team");
+		team.setMaxSize(4);
+		team.setCurrentSize(1);
+		team.setSkillsNeeded(List.of("Backend"));
+		team.setHackathon(hackathon);
+		team.setLeader(leader);
+		teamRepository.save(team);
+
+		TeamMember leaderMember = new TeamMember();
+		leaderMember.setTeam(team);
+		leaderMember.setUser(leader);
+		leaderMember.setRole(TeamRole.LEADER);
+		leaderMember.setAssignedRole("Leader");
+		teamMemberRepository.save(leaderMember);
+		return team;
+	}
+
+	private void createJoinRequest(Team team, User requester) {
+		JoinRequest joinRequest = new JoinRequest();
+		joinRequest.setTeam(team);
+		joinRequest.setRequester(requester);
+		joinRequest.setRequestedRole("Backend");
+		joinRequest.setUserSkills(List.of("Java"));
+		joinRequest.setMessage("Let me in");
+		joinRequestRepository.save(joinRequest);
+	}
+
+	private Review createReview(User reviewer, User reviewed, Hackathon hackathon) {
+		Profile profile = new Profile();
+		profile.setUser(reviewed);
+		profile.setFullName("Reviewed Member");
+		profile.setCollege("College");
+		profile.setYear("3");
+		profileRepository.save(profile);
+
+		Review review = new Review();
+		review.setReviewer(reviewer);
+		review.setReviewedProfile(profile);
+		review.setRating(5);
+		review.setHackathon(hackathon);
+		return reviewRepository.save(review);
+	}
+
+	private User createUser() {
+		User user = new User();
+		user.setEmail("archive" + (userCount++) + "@example.com");
+		user.setPassword("secret");
+		return userRepository.save(user);
+	}
+}
@@ -0,0 +1,178 @@
+package com.example.HackMateBackend.services;
+
+import com.example.HackMateBackend.controllers.HackathonController;
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.entities.User;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.dtos.hackathon.HackathonListItemDto;
+import com.example.HackMateBackend.dtos.hackathon.HackathonListResponseDto;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import com.example.HackMateBackend.repositories.UserRepository;
+import com.example.HackMateBackend.services.cache.HackathonETags;
+import com.example.HackMateBackend.services.cache.HackathonFeedCache;
+import com.example.HackMateBackend.services.cache.HackathonViewCounter;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.extraction.HackathonExtractionEngine;
+import com.example.HackMateBackend.services.implementations.HackathonServiceImpl;
+import com.example.HackMateBackend.services.index.HackathonDuplicateIndex;
+import com.example.HackMateBackend.services.index.HackathonSearchIndex;
+import com.example.HackMateBackend.services.index.HackathonTagIndex;
+import com.example.HackMateBackend.services.index.HackathonUrgencyIndex;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSearchIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
+import com.example.HackMateBackend.services.interfaces.HackathonService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conditional feed requests: a tag names one cached page, revalidates to 304 while that page
+ * is served and stops matching once an approval or a view count flush reloads it.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({HackathonServiceImpl.class, HackathonSearchIndex.class, HackathonTagIndex.class, HackathonUrgencyIndex.class,
+		HackathonDuplicateIndex.class, HackathonViewCounter.class, HackathonFeedCache.class, HackathonETags.class,
+		HackathonExtractionEngine.class, RecommendationIndex.class, TeamSkillIndex.class, TeamSearchIndex.class,
+		TeamCountCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HackathonFeedETagTest {
+
+	@TestConfiguration
+	static class MetricsConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private HackathonService hackathonService;
+
+	@Autowired
+	private HackathonRepository hackathonRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private HackathonFeedCache feedCache;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private HackathonController controller;
+	private User poster;
+
+	@BeforeEach
+	void setUp() {
+		poster = new User();
+		poster.setEmail("organizer@example.com");
+		poster.setPassword("secret");
+		userRepository.save(poster);
+
+		createHackathon("Live Hackathon", Status.ACCEPTED);
+		feedCache.invalidateAll();
+		controller = new HackathonController(hackathonService, objectMapper);
+	}
+
+	@AfterEach
+	void tearDown() {
+		hackathonRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void cachedPageRevalidatesUntilItIsReloaded() {
+		// the first request loads the page and cannot name it yet
+		assertThat(getFeed(null).getHeaders().getETag()).isNull();
+
+		ResponseEntity<HackathonListResponseDto> cached = getFeed(null);
+		String eTag = cached.getHeaders().getETag();
+		assertThat(cached.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(eTag).startsWith("W/\"");
+
+		ResponseEntity<HackathonListResponseDto> revalidated = getFeed(eTag);
+		assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(revalidated.getBody()).isNull();
+		assertThat(revalidated.getHeaders().getETag()).isEqualTo(eTag);
+	}
+
+	@Test
+	void approvalInvalidatesTheTag() {
+		Hackathon pending = createHackathon("Pending Hackathon", Status.PENDING);
+		String eTag = cachedETag();
+
+		hackathonService.approveHackathon(pending.getId(), poster.getId());
+
+		ResponseEntity<HackathonListResponseDto> afterApproval = getFeed(eTag);
+		assertThat(afterApproval.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(afterApproval.getBody().getHackathons()).extracting(HackathonListItemDto::getTitle)
+				.contains("Pending Hackathon");
+		assertThat(cachedETag()).isNotEqualTo(eTag);
+	}
+
+	@Test
+	void viewCountFlushInvalidatesTheTag() {
+		Long hackathonId = hackathonRepository.findAll().get(0).getId();
+		String eTag = cachedETag();
+
+		hackathonService.incrementViewCount(hackathonId);
+		assertThat(getFeed(eTag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(hackathonService.flushViewCounts()).isEqualTo(1);
+
+		ResponseEntity<HackathonListResponseDto> afterFlush = getFeed(eTag);
+		assertThat(afterFlush.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(afterFlush.getBody().getHackathons().get(0).getViewCount()).isEqualTo(1L);
+		assertThat(cachedETag()).isNotEqualTo(eTag);
+	}
+
+	// === Helper Methods ===
+
+	private ResponseEntity<HackathonListResponseDto> getFeed(String ifNoneMatch) {
+		return controller.getPublicFeed("", false, null, false, null, "deadline", "asc", 0, 20, null, ifNoneMatch, null);
+	}
+
+	// Loads the page if needed and returns the tag of the cached copy
+	private String cachedETag() {
+		getFeed(null);
+		String eTag = getFeed(null).getHeaders().getETag();
+		assertThat(eTag).isNotNull();
+		return eTag;
+	}
+
+	private Hackathon createHackathon(String title, Status status) {
+		Hackathon hackathon = new Hackathon();
+		hackathon.setTitle(title);
+		hackathon.setRegistrationLink("https://example.com/" + title.hashCode());
+		hackathon.setDeadline(LocalDateTime.now().plusDays(3));
+		hackathon.setStatus(status);
+		hackathon.setTags(List.of("ai"));
+		hackathon.setPostedBy(poster);
+		return hackathonRepository.save(hackathon);
+	}
+}
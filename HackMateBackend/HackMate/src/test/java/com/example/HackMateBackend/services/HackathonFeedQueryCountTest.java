@@ -0,0 +1,173 @@
+package com.example.HackMateBackend.services;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.entities.User;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.dtos.hackathon.HackathonFilterRequestDto;
+import com.example.HackMateBackend.dtos.hackathon.HackathonListItemDto;
+import com.example.HackMateBackend.dtos.hackathon.HackathonListResponseDto;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import com.example.HackMateBackend.repositories.UserRepository;
+import com.example.HackMateBackend.services.cache.HackathonETags;
+import com.example.HackMateBackend.services.cache.HackathonFeedCache;
+import com.example.HackMateBackend.services.cache.HackathonViewCounter;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.extraction.HackathonExtractionEngine;
+import com.example.HackMateBackend.services.implementations.HackathonServiceImpl;
+import com.example.HackMateBackend.services.index.HackathonDuplicateIndex;
+import com.example.HackMateBackend.services.index.HackathonSearchIndex;
+import com.example.HackMateBackend.services.index.HackathonTagIndex;
+import com.example.HackMateBackend.services.index.HackathonUrgencyIndex;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSearchIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
+import com.example.HackMateBackend.services.interfaces.HackathonService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Locks in the number of SQL statements needed to build one feed page, so lazy
+ * per-row loading (e.g. of tags) cannot creep back into the list conversion.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({HackathonServiceImpl.class, HackathonSearchIndex.class, HackathonTagIndex.class, HackathonUrgencyIndex.class,
+		HackathonDuplicateIndex.class, HackathonViewCounter.class, HackathonFeedCache.class, HackathonETags.class,
+		HackathonExtractionEngine.class, RecommendationIndex.class, TeamSkillIndex.class, TeamSearchIndex.class,
+		TeamCountCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HackathonFeedQueryCountTest {
+
+	private static final int HACKATHON_COUNT = 25;
+	private static final int PAGE_SIZE = 20;
+
+	@TestConfiguration
+	static class MetricsConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private HackathonService hackathonService;
+
+	@Autowired
+	private HackathonRepository hackathonRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private HackathonFeedCache feedCache;
+
+	@Autowired
+	private HackathonTagIndex tagIndex;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		User poster = new User();
+		poster.setEmail("organizer@example.com");
+		poster.setPassword("secret");
+		userRepository.save(poster);
+
+		for (int i = 0; i < HACKATHON_COUNT; i++) {
+			Hackathon hackathon = new Hackathon();
+			hackathon.setTitle("Hackathon " + i);
+			hackathon.setRegistrationLink("https://example.com/" + i);
+			hackathon.setDeadline(LocalDateTime.now().plusDays(i + 1));
+			hackathon.setStatus(Status.ACCEPTED);
+			hackathon.setTags(List.of("ai", "tag-" + i));
+			hackathon.setPostedBy(poster);
+			hackathonRepository.save(hackathon);
+		}
+
+		tagIndex.rebuild();
+		feedCache.invalidateAll();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		hackathonRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void offsetFeedPageUsesPageCountAndTagQueriesOnly() {
+		HackathonFilterRequestDto filterRequest = new HackathonFilterRequestDto();
+		filterRequest.setSize(PAGE_SIZE);
+
+		HackathonListResponseDto response = hackathonService.getPublicHackathonFeed(filterRequest, null);
+
+		assertThat(response.getHackathons()).hasSize(PAGE_SIZE);
+		assertThat(response.getTotalElements()).isEqualTo(HACKATHON_COUNT);
+		assertThat(response.getHackathons())
+				.allSatisfy(item -> assertThat(item.getTags()).hasSize(2).contains("ai"));
+
+		// page select + count + one batched tag select, regardless of page size
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+
+	@Test
+	void cursorFeedPageUsesWindowAndTagQueriesOnly() {
+		HackathonFilterRequestDto filterRequest = new HackathonFilterRequestDto();
+		filterRequest.setSize(PAGE_SIZE);
+		filterRequest.setCursor("");
+
+		HackathonListResponseDto response = hackathonService.getPublicHackathonFeed(filterRequest, null);
+
+		assertThat(response.getHackathons()).hasSize(PAGE_SIZE);
+		assertThat(response.getHackathons().stream().map(HackathonListItemDto::getTags))
+				.allSatisfy(tags -> assertThat(tags).isNotEmpty());
+
+		// window select + one batched tag select
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void tagFilteredFeedPageResolvesIdsInMemory() {
+		HackathonFilterRequestDto filterRequest = new HackathonFilterRequestDto();
+		filterRequest.setSize(PAGE_SIZE);
+		filterRequest.setTags(List.of("AI", "tag-3"));
+		filterRequest.setMatchAllTags(true);
+
+		HackathonListResponseDto response = hackathonService.getPublicHackathonFeed(filterRequest, null);
+
+		assertThat(response.getHackathons()).extracting(HackathonListItemDto::getTitle).containsExactly("Hackathon 3");
+		assertThat(response.getTagFacets()).containsEntry("ai", 1L).containsEntry("tag-3", 1L).hasSize(2);
+
+		// tag filter is answered by the bitmap index: only page select + batched tag select
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+}
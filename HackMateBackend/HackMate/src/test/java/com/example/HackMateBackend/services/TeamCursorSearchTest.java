@@ -0,0 +1,207 @@
+package com.example.HackMateBackend.services;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.entities.Team;
+import com.example.HackMateBackend.data.entities.User;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.dtos.team.CreateTeamRequestDto;
+import com.example.HackMateBackend.dtos.team.TeamListItemDto;
+import com.example.HackMateBackend.dtos.team.TeamSearchRequestDto;
+import com.example.HackMateBackend.dtos.team.TeamSearchResponseDto;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import com.example.HackMateBackend.repositories.TeamMemberRepository;
+import com.example.HackMateBackend.repositories.TeamRepository;
+import com.example.HackMateBackend.repositories.UserRepository;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.implementations.TeamServiceImpl;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSearchIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
+import com.example.HackMateBackend.services.interfaces.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Keyset team search: runs of equal sort values are paged through the id tie-breaker in both
+ * directions, a cursor only continues the sort it was issued for, and includeTotal serves a
+ * cached count that team changes drop.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({TeamServiceImpl.class, TeamSkillIndex.class, TeamSearchIndex.class, RecommendationIndex.class,
+		TeamCountCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeamCursorSearchTest {
+
+	private static final int PAGE_SIZE = 2;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private TeamCountCache teamCountCache;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private TeamMemberRepository teamMemberRepository;
+
+	@Autowired
+	private HackathonRepository hackathonRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private int userCount;
+	private Hackathon hackathon;
+	private final List<Team> teams = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		hackathon = new Hackathon();
+		hackathon.setTitle("Cursor Hackathon");
+		hackathon.setRegistrationLink("https://example.com/cursor");
+		hackathon.setDeadline(LocalDateTime.now().plusDays(3));
+		hackathon.setStatus(Status.ACCEPTED);
+		hackathon.setPostedBy(createUser());
+		hackathonRepository.save(hackathon);
+
+		// three runs of equal names and three runs of equal free slots, each longer than a page
+		String[] names = {"Beta", "Alpha", "Beta", "Gamma", "Alpha", "Beta", "Gamma"};
+		int[] maxSizes = {4, 4, 5, 3, 4, 5, 3};
+		for (int i = 0; i < names.length; i++) {
+			teams.add(createTeam(names[i], maxSizes[i]));
+		}
+		teamCountCache.invalidate(hackathon.getId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		teamMemberRepository.deleteAll();
+		teamRepository.deleteAll();
+		hackathonRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void equalTeamNamesArePagedByIdInBothDirections() {
+		Comparator<Team> byName = Comparator.comparing(Team::getTeamName).thenComparing(Team::getId);
+
+		assertThat(scrollAll("teamName", "asc")).containsExactlyElementsOf(expectedOrder(byName));
+		assertThat(scrollAll("teamName", "desc")).containsExactlyElementsOf(expectedOrder(byName.reversed()));
+	}
+
+	@Test
+	void equalAvailableSlotsArePagedByIdInBothDirections() {
+		Comparator<Team> bySlots = Comparator.comparingInt((Team team) -> team.getMaxSize() - team.getCurrentSize())
+				.thenComparing(Team::getId);
+
+		assertThat(scrollAll("availableSlots", "asc")).containsExactlyElementsOf(expectedOrder(bySlots));
+		assertThat(scrollAll("availableSlots", "desc")).containsExactlyElementsOf(expectedOrder(bySlots.reversed()));
+	}
+
+	@Test
+	void cursorOfAnotherSortIsRejected() {
+		String nameCursor = teamService.searchTeams(request("teamName", "asc", ""), null).getNextCursor();
+		assertThat(nameCursor).isNotNull();
+
+		assertThatThrownBy(() -> teamService.searchTeams(request("availableSlots", "asc", nameCursor), null))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Cursor does not match the requested sort order");
+		assertThatThrownBy(() -> teamService.searchTeams(request("createdAt", "asc", nameCursor), null))
+				.hasMessage("Cursor does not match the requested sort order");
+	}
+
+	@Test
+	void includeTotalIsCachedUntilATeamIsCreated() {
+		assertThat(searchWithTotal().getTotalElements()).isEqualTo(teams.size());
+		assertThat(teamCountCache.size()).isEqualTo(1);
+
+		// written behind the services' back, so the cached total is still served
+		createTeam("Delta", 4);
+		assertThat(searchWithTotal().getTotalElements()).isEqualTo(teams.size());
+
+		CreateTeamRequestDto create = new CreateTeamRequestDto();
+		create.setHackathonId(hackathon.getId());
+		create.setTeamName("Epsilon");
+		create.setDescription("Created through the service");
+		create.setMaxSize(4);
+		create.setRolesNeeded(List.of("Backend"));
+		// Team keeps autoAccept in its public flag, so it has to be on for the team to be listed
+		create.setAutoAccept(true);
+		teamService.createTeam(create, createUser().getId());
+
+		assertThat(searchWithTotal().getTotalElements()).isEqualTo(teams.size() + 2);
+		assertThat(teamService.searchTeams(request("teamName", "asc", ""), null).getTotalElements()).isZero();
+	}
+
+	// === Helper Methods ===
+
+	private List<Long> scrollAll(String sortBy, String direction) {
+		List<Long> ids = new ArrayList<>();
+		String cursor = "";
+		do {
+			TeamSearchResponseDto page = teamService.searchTeams(request(sortBy, direction, cursor), null);
+			assertThat(page.getTeams()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+			page.getTeams().stream().map(TeamListItemDto::getTeamId).forEach(ids::add);
+			cursor = page.getNextCursor();
+			assertThat(cursor != null).isEqualTo(page.isHasNext());
+		} while (cursor != null);
+		return ids;
+	}
+
+	private List<Long> expectedOrder(Comparator<Team> order) {
+		return teams.stream().sorted(order).map(Team::getId).toList();
+	}
+
+	private TeamSearchResponseDto searchWithTotal() {
+		TeamSearchRequestDto request = request("createdAt", "desc", "");
+		request.setIncludeTotal(true);
+		return teamService.searchTeams(request, null);
+	}
+
+	private TeamSearchRequestDto request(String sortBy, String direction, String cursor) {
+		TeamSearchRequestDto request = new TeamSearchRequestDto();
+		request.setHackathonId(hackathon.getId());
+		request.setSortBy(sortBy);
+		request.setSortDirection(direction);
+		request.setSize(PAGE_SIZE);
+		request.setCursor(cursor);
+		return request;
+	}
+
+	private Team createTeam(String name, int maxSize) {
+		Team team = new Team();
+		team.setTeamName(name);
+		team.setMaxSize(maxSize);
+		team.setCurrentSize(1);
+		team.setHackathon(hackathon);
+		team.setLeader(createUser());
+		return teamRepository.save(team);
+	}
+
+	private User createUser() {
+		User user = new User();
+		user.setEmail("cursor" + (userCount++) + "@example.com");
+		user.setPassword("secret");
+		return userRepository.save(user);
+	}
+}
@@ -0,0 +1,253 @@
+package com.example.HackMateBackend.services;
+
+import com.example.HackMateBackend.controllers.TeamController;
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.entities.HackathonRegistration;
+import com.example.HackMateBackend.data.entities.Profile;
+import com.example.HackMateBackend.data.entities.Team;
+import com.example.HackMateBackend.data.entities.TeamMember;
+import com.example.HackMateBackend.data.entities.User;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.data.enums.TeamRole;
+import com.example.HackMateBackend.repositories.HackathonRegistrationRepository;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import com.example.HackMateBackend.repositories.ProfileRepository;
+import com.example.HackMateBackend.repositories.TeamMemberRepository;
+import com.example.HackMateBackend.repositories.TeamRepository;
+import com.example.HackMateBackend.repositories.TeamRepositoryCustom.RosterRow;
+import com.example.HackMateBackend.repositories.UserRepository;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.implementations.CustomUserDetailService.UserPrincipal;
+import com.example.HackMateBackend.services.implementations.TeamServiceImpl;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSearchIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
+import com.example.HackMateBackend.services.interfaces.TeamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roster exports: the skill rows of a member are merged into one row as they stream past,
+ * members without a profile and registrants without a team are kept, and the CSV is quoted
+ * per RFC 4180.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({TeamServiceImpl.class, TeamSkillIndex.class, TeamSearchIndex.class, RecommendationIndex.class,
+		TeamCountCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeamRosterExportTest {
+
+	// Smaller than the number of rows, so merging has to carry a member across fetches
+	private static final int FETCH_SIZE = 2;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private TeamMemberRepository teamMemberRepository;
+
+	@Autowired
+	private HackathonRepository hackathonRepository;
+
+	@Autowired
+	private HackathonRegistrationRepository registrationRepository;
+
+	@Autowired
+	private ProfileRepository profileRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private int userCount;
+	private User organizer;
+	private Hackathon hackathon;
+	private Team team;
+	private User leader;
+	private User memberWithoutProfile;
+	private User unteamed;
+
+	@BeforeEach
+	void setUp() {
+		organizer = createUser();
+		hackathon = new Hackathon();
+		hackathon.setTitle("Export Hackathon");
+		hackathon.setRegistrationLink("https://example.com/export");
+		hackathon.setDeadline(LocalDateTime.now().plusDays(3));
+		hackathon.setStatus(Status.ACCEPTED);
+		hackathon.setPostedBy(organizer);
+		hackathonRepository.save(hackathon);
+
+		leader = createUser();
+		createProfile(leader, "Doe, \"JJ\" Jane", List.of("Java", "Spring, Boot", "SQL"));
+		memberWithoutProfile = createUser();
+		unteamed = createUser();
+		createProfile(unteamed, "Solo Sam", List.of("Design"));
+
+		team = createTeam("Alpha", leader);
+		addMember(team, memberWithoutProfile, TeamRole.MEMBER);
+
+		for (User user : List.of(leader, memberWithoutProfile, unteamed)) {
+			registrationRepository.save(HackathonRegistration.createRegistration(hackathon, user));
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		profileRepository.deleteAll();
+		teamMemberRepository.deleteAll();
+		teamRepository.deleteAll();
+		registrationRepository.deleteAll();
+		hackathonRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void rosterMergesSkillRowsAndKeepsMembersWithoutProfile() {
+		List<RosterRow> rows = new ArrayList<>();
+		teamRepository.streamTeamRoster(hackathon.getId(), null, FETCH_SIZE, rows::add);
+
+		assertThat(rows).extracting(RosterRow::userId).containsExactly(leader.getId(), memberWithoutProfile.getId());
+
+		RosterRow leaderRow = rows.get(0);
+		assertThat(leaderRow.teamName()).isEqualTo("Alpha");
+		assertThat(leaderRow.memberRole()).isEqualTo("LEADER");
+		assertThat(leaderRow.fullName()).isEqualTo("Doe, \"JJ\" Jane");
+		assertThat(leaderRow.skills()).containsExactlyInAnyOrder("Java", "Spring, Boot", "SQL");
+
+		RosterRow memberRow = rows.get(1);
+		assertThat(memberRow.teamId()).isEqualTo(team.getId());
+		assertThat(memberRow.email()).isEqualTo(memberWithoutProfile.getEmail());
+		assertThat(memberRow.fullName()).isNull();
+		assertThat(memberRow.skills()).isEmpty();
+	}
+
+	@Test
+	void rosterOfOneTeamSkipsOtherTeams() {
+		User otherLeader = createUser();
+		Team other = createTeam("Beta", otherLeader);
+
+		List<RosterRow> rows = new ArrayList<>();
+		teamRepository.streamTeamRoster(hackathon.getId(), other.getId(), FETCH_SIZE, rows::add);
+
+		assertThat(rows).extracting(RosterRow::userId).containsExactly(otherLeader.getId());
+	}
+
+	@Test
+	void unteamedRegistrantsLeaveOutTeamMembers() {
+		List<RosterRow> rows = new ArrayList<>();
+		teamRepository.streamUnteamedRegistrants(hackathon.getId(), FETCH_SIZE, rows::add);
+
+		assertThat(rows).hasSize(1);
+		RosterRow row = rows.get(0);
+		assertThat(row.userId()).isEqualTo(unteamed.getId());
+		assertThat(row.teamId()).isNull();
+		assertThat(row.memberRole()).isNull();
+		assertThat(row.skills()).containsExactly("Design");
+	}
+
+	@Test
+	void csvExportQuotesFieldsAndListsUnteamedLast() throws IOException {
+		String csv = new String(export(false), StandardCharsets.UTF_8);
+		String[] lines = csv.split("\r\n");
+
+		assertThat(lines).hasSize(4);
+		assertThat(lines[0]).startsWith("hackathon,team_id,team_name,");
+		assertThat(lines[1])
+				.contains(",\"Doe, \"\"JJ\"\" Jane\",")
+				.contains(",\"Java;Spring, Boot;SQL\",");
+		assertThat(lines[2]).contains(",Alpha,").contains("," + memberWithoutProfile.getEmail() + ",");
+		assertThat(lines[3]).startsWith("Export Hackathon,,,,,,,,").contains(",Solo Sam,");
+	}
+
+	@Test
+	void gzipExportIsCompleteCsv() throws IOException {
+		byte[] compressed = export(true);
+
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			assertThat(in.readAllBytes()).isEqualTo(export(false));
+		}
+	}
+
+	// === Helper Methods ===
+
+	private byte[] export(boolean gzip) throws IOException {
+		TeamController controller = new TeamController(teamService, null, objectMapper);
+		StreamingResponseBody body = controller.exportHackathonRosters(hackathon.getId(), "CSV", true, gzip,
+				UserPrincipal.create(organizer)).getBody();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		body.writeTo(out);
+		return out.toByteArray();
+	}
+
+	private Team createTeam(String name, User teamLeader) {
+		Team newTeam = new Team();
+		newTeam.setTeamName(name);
+		newTeam.setMaxSize(4);
+		newTeam.setCurrentSize(1);
+		newTeam.setSkillsNeeded(List.of("Backend"));
+		newTeam.setHackathon(hackathon);
+		newTeam.setLeader(teamLeader);
+		teamRepository.save(newTeam);
+		addMember(newTeam, teamLeader, TeamRole.LEADER);
+		return newTeam;
+	}
+
+	private void addMember(Team memberTeam, User user, TeamRole role) {
+		TeamMember member = new TeamMember();
+		member.setTeam(memberTeam);
+		member.setUser(user);
+		member.setRole(role);
+		member.setAssignedRole(role == TeamRole.LEADER ? "Leader" : "Backend");
+		teamMemberRepository.save(member);
+	}
+
+	private void createProfile(User user, String fullName, List<String> skills) {
+		Profile profile = new Profile();
+		profile.setUser(user);
+		profile.setFullName(fullName);
+		profile.setCollege("College");
+		profile.setYear("3");
+		profile.setSkills(new ArrayList<>(skills));
+		profileRepository.save(profile);
+	}
+
+	private User createUser() {
+		User user = new User();
+		user.setEmail("export" + (userCount++) + "@example.com");
+		user.setPassword("secret");
+		return userRepository.save(user);
+	}
+}
@@ -0,0 +1,159 @@
+package com.example.HackMateBackend.services;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.entities.Team;
+import com.example.HackMateBackend.services.index.TeamSearchIndex;
+import com.example.HackMateBackend.services.index.TeamSearchIndex.SearchPage;
+import com.example.HackMateBackend.services.index.TeamSearchIndex.TeamText;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Trigram team search: typos and substrings match, teams leave the index once they can no longer
+ * be searched, pages beyond the first are cut from one stable ranking, and removed teams leave
+ * no slots or postings behind.
+ */
+class TeamSearchIndexTest {
+
+	private static final Long HACKATHON_ID = 1L;
+	private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+	private TeamSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TeamSearchIndex(null);
+		ReflectionTestUtils.setField(index, "minSimilarity", 0.4);
+	}
+
+	@Test
+	void typoAndSubstringBothMatch() {
+		index.index(text(1L, "HackMate Builders", "We build tools", CREATED));
+		index.index(text(2L, "Data Wizards", "Machine learning for everyone", CREATED));
+
+		assertThat(index.search(HACKATHON_ID, "hakmate", 0, 10).teamIds()).containsExactly(1L);
+		assertThat(index.search(HACKATHON_ID, "wizard", 0, 10).teamIds()).containsExactly(2L);
+		// a match in the description ranks below the same match in a name
+		index.index(text(3L, "Night Owls", "Long time HackMate fans", CREATED.plusDays(1)));
+		assertThat(index.search(HACKATHON_ID, "hackmate", 0, 10).teamIds()).containsExactly(1L, 3L);
+	}
+
+	@Test
+	void teamsThatStopBeingSearchableAreDropped() {
+		Team team = team(1L, "Rocket Science");
+		index.index(TeamText.of(team));
+		assertThat(index.search(HACKATHON_ID, "rocket", 0, 10).teamIds()).containsExactly(1L);
+
+		// what updateTeam hands to the index after making the team private
+		team.setPublic(false);
+		index.index(TeamText.of(team));
+		assertThat(index.search(HACKATHON_ID, "rocket", 0, 10).totalElements()).isZero();
+		assertThat(index.size()).isZero();
+
+		team.setPublic(true);
+		index.index(TeamText.of(team));
+		assertThat(index.size()).isEqualTo(1);
+
+		team.setActive(false);
+		index.index(TeamText.of(team));
+		assertThat(index.search(HACKATHON_ID, "rocket", 0, 10).teamIds()).isEmpty();
+	}
+
+	@Test
+	void pagesBeyondTheFirstFollowOneStableRanking() {
+		// equal scores throughout; ties between equal creation times fall back to the id
+		for (long id = 1; id <= 7; id++) {
+			index.index(text(id, "Team Rocket " + id, null, CREATED.plusHours(id / 2)));
+		}
+
+		List<Long> allAtOnce = index.search(HACKATHON_ID, "rocket", 0, 10).teamIds();
+		assertThat(allAtOnce).containsExactly(7L, 6L, 5L, 4L, 3L, 2L, 1L);
+
+		List<Long> paged = new ArrayList<>();
+		for (int page = 0; page < 3; page++) {
+			SearchPage result = index.search(HACKATHON_ID, "rocket", page, 3);
+			assertThat(result.totalElements()).isEqualTo(7);
+			paged.addAll(result.teamIds());
+		}
+		assertThat(paged).isEqualTo(allAtOnce);
+		assertThat(index.search(HACKATHON_ID, "rocket", 3, 3).teamIds()).isEmpty();
+	}
+
+	@Test
+	void matchesBelowTheMinimumSimilarityAreLeftOut() {
+		index.index(text(1L, "HackMate", null, CREATED));
+		index.index(text(2L, "Abyss", null, CREATED));
+
+		// "abcdefgh" shares only its first two trigrams with "abyss"
+		assertThat(index.search(HACKATHON_ID, "abcdefgh", 0, 10).totalElements()).isZero();
+
+		// "hakmate" shares 6 of its 8 trigrams with "hackmate"
+		ReflectionTestUtils.setField(index, "minSimilarity", 0.8);
+		assertThat(index.search(HACKATHON_ID, "hakmate", 0, 10).teamIds()).isEmpty();
+		assertThat(index.search(HACKATHON_ID, "hackmate", 0, 10).teamIds()).containsExactly(1L);
+	}
+
+	@Test
+	void removedTeamsFreeTheirSlotAndPostings() {
+		index.index(text(1L, "Alpha Squad", null, CREATED));
+		index.index(text(2L, "Zebra Crew", null, CREATED));
+
+		index.remove(2L);
+		assertThat(index.search(HACKATHON_ID, "zebra", 0, 10).totalElements()).isZero();
+		assertThat(postings()).doesNotContainKey(trigram('z', 'e', 'b'));
+
+		// the new team takes the freed slot and must not inherit the old team's postings
+		index.index(text(3L, "Omega Unit", null, CREATED));
+		assertThat(slots()).hasSize(2);
+		assertThat(index.search(HACKATHON_ID, "omega", 0, 10).teamIds()).containsExactly(3L);
+		assertThat(index.search(HACKATHON_ID, "zebra", 0, 10).teamIds()).isEmpty();
+
+		index.remove(1L);
+		index.remove(3L);
+		assertThat(index.size()).isZero();
+		assertThat((Map<?, ?>) ReflectionTestUtils.getField(index, "shards")).isEmpty();
+	}
+
+	// === Helper Methods ===
+
+	private static TeamText text(Long teamId, String name, String description, LocalDateTime createdAt) {
+		return new TeamText(teamId, HACKATHON_ID, name, description, createdAt, true);
+	}
+
+	private static Team team(Long teamId, String name) {
+		Hackathon hackathon = new Hackathon();
+		hackathon.setId(HACKATHON_ID);
+		Team team = new Team();
+		team.setId(teamId);
+		team.setTeamName(name);
+		team.setHackathon(hackathon);
+		team.setCreatedAt(CREATED);
+		return team;
+	}
+
+	private Object shard() {
+		Map<?, ?> shards = (Map<?, ?>) ReflectionTestUtils.getField(index, "shards");
+		return shards.get(HACKATHON_ID);
+	}
+
+	private List<?> slots() {
+		return (List<?>) ReflectionTestUtils.getField(shard(), "slots");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, ?> postings() {
+		return (Map<Long, ?>) ReflectionTestUtils.getField(shard(), "namePostings");
+	}
+
+	private static long trigram(char first, char second, char third) {
+		return ((long) first << 32) | ((long) second << 16) | third;
+	}
+}
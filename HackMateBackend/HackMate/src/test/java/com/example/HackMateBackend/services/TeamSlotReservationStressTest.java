@@ -0,0 +1,254 @@
+package com.example.HackMateBackend.services;
+
+import com.example.HackMateBackend.data.entities.Hackathon;
+import com.example.HackMateBackend.data.entities.JoinRequest;
+import com.example.HackMateBackend.data.entities.Team;
+import com.example.HackMateBackend.data.entities.TeamMember;
+import com.example.HackMateBackend.data.entities.User;
+import com.example.HackMateBackend.data.enums.Status;
+import com.example.HackMateBackend.data.enums.TeamRole;
+import com.example.HackMateBackend.dtos.joinrequest.ProcessJoinRequestDto;
+import com.example.HackMateBackend.repositories.HackathonRepository;
+import com.example.HackMateBackend.repositories.JoinRequestRepository;
+import com.example.HackMateBackend.repositories.TeamMemberRepository;
+import com.example.HackMateBackend.repositories.TeamRepository;
+import com.example.HackMateBackend.repositories.UserRepository;
+import com.example.HackMateBackend.services.cache.TeamCountCache;
+import com.example.HackMateBackend.services.implementations.JoinRequestServiceImpl;
+import com.example.HackMateBackend.services.index.RecommendationIndex;
+import com.example.HackMateBackend.services.index.TeamSkillIndex;
+import com.example.HackMateBackend.services.interfaces.EmailService;
+import com.example.HackMateBackend.services.interfaces.JoinRequestService;
+import com.example.HackMateBackend.services.interfaces.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hundreds of accepts racing for the slots of the same teams must never overfill a team:
+ * exactly the free slots are handed out and every other accept is turned away as full.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({JoinRequestServiceImpl.class, TeamSkillIndex.class, RecommendationIndex.class, TeamCountCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeamSlotReservationStressTest {
+
+	private static final Logger log = LoggerFactory.getLogger(TeamSlotReservationStressTest.class);
+
+	private static final int THREADS = 32;
+	private static final String TEAM_FULL = "Team is now full";
+
+	@MockitoBean
+	private NotificationService notificationService;
+
+	@MockitoBean
+	private EmailService emailService;
+
+	@Autowired
+	private JoinRequestService joinRequestService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private HackathonRepository hackathonRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private TeamMemberRepository teamMemberRepository;
+
+	@Autowired
+	private JoinRequestRepository joinRequestRepository;
+
+	private int userCount;
+
+	@AfterEach
+	void tearDown() {
+		teamRepository.deleteAll();
+		hackathonRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentAcceptsForOneTeamFillItExactly() throws Exception {
+		int requestCount = 300;
+		int maxSize = 40;
+		Hackathon hackathon = createHackathon();
+		Team team = createTeam(hackathon, maxSize);
+		List<Long> requestIds = createJoinRequests(team, requestCount);
+
+		AcceptOutcome outcome = acceptConcurrently(team.getLeader().getId(), requestIds);
+
+		// the leader holds the first slot
+		assertThat(outcome.accepted()).isEqualTo(maxSize - 1);
+		assertThat(outcome.rejectedAsFull()).isEqualTo(requestCount - (maxSize - 1));
+		assertTeamConsistent(team.getId(), maxSize);
+		assertThat(teamMemberRepository.countActiveByTeam(team.getId())).isEqualTo(maxSize);
+	}
+
+	@Test
+	void concurrentAcceptsSpreadOverTeamsDoNotLoseSlots() throws Exception {
+		int teamCount = 20;
+		int requestsPerTeam = 15;
+		int maxSize = 10;
+		Hackathon hackathon = createHackathon();
+
+		List<Team> teams = new ArrayList<>();
+		List<Long> requestIds = new ArrayList<>();
+		for (int i = 0; i < teamCount; i++) {
+			Team team = createTeam(hackathon, maxSize);
+			teams.add(team);
+			requestIds.addAll(createJoinRequests(team, requestsPerTeam));
+		}
+
+		// each team is accepted by its own leader
+		List<Long> leaderIds = teams.stream().map(team -> team.getLeader().getId()).toList();
+		AcceptOutcome outcome = acceptConcurrently(leaderIds, requestIds, requestsPerTeam);
+
+		assertThat(outcome.accepted()).isEqualTo(teamCount * (maxSize - 1));
+		assertThat(outcome.rejectedAsFull()).isEqualTo(teamCount * (requestsPerTeam - (maxSize - 1)));
+		for (Team team : teams) {
+			assertTeamConsistent(team.getId(), maxSize);
+		}
+	}
+
+	// === Helper Methods ===
+
+	private record AcceptOutcome(int accepted, int rejectedAsFull) {
+	}
+
+	private AcceptOutcome acceptConcurrently(Long leaderId, List<Long> requestIds) throws Exception {
+		return acceptConcurrently(List.of(leaderId), requestIds, requestIds.size());
+	}
+
+	private AcceptOutcome acceptConcurrently(List<Long> leaderIds, List<Long> requestIds, int requestsPerLeader)
+			throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger accepted = new AtomicInteger();
+		AtomicInteger rejectedAsFull = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int i = 0; i < requestIds.size(); i++) {
+			ProcessJoinRequestDto request = new ProcessJoinRequestDto();
+			request.setJoinRequestId(requestIds.get(i));
+			request.setAction("ACCEPT");
+			Long leaderId = leaderIds.get(i / requestsPerLeader);
+
+			futures.add(pool.submit(() -> {
+				start.await();
+				try {
+					joinRequestService.processJoinRequest(request, leaderId);
+					accepted.incrementAndGet();
+				} catch (RuntimeException e) {
+					if (!TEAM_FULL.equals(e.getMessage())) {
+						throw e;
+					}
+					rejectedAsFull.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		pool.shutdown();
+
+		log.info("Processed {} concurrent accepts in {} ms ({} accepted, {} rejected as full)",
+				requestIds.size(), elapsedMs, accepted.get(), rejectedAsFull.get());
+		return new AcceptOutcome(accepted.get(), rejectedAsFull.get());
+	}
+
+	private void assertTeamConsistent(Long teamId, int maxSize) {
+		Team team = teamRepository.findById(teamId).orElseThrow();
+		long acceptedRequests = joinRequestRepository.findAll().stream()
+				.filter(joinRequest -> joinRequest.getTeam().getId().equals(teamId))
+				.filter(joinRequest -> joinRequest.getStatus() == Status.ACCEPTED)
+				.count();
+
+		assertThat(team.getCurrentSize()).isEqualTo(maxSize);
+		assertThat(team.isFull()).isTrue();
+		assertThat(acceptedRequests).isEqualTo(maxSize - 1);
+	}
+
+	private Hackathon createHackathon() {
+		User poster = createUser();
+		Hackathon hackathon = new Hackathon();
+		hackathon.setTitle("Stress Hackathon");
+		hackathon.setRegistrationLink("https://example.com/stress");
+		hackathon.setDeadline(LocalDateTime.now().plusDays(10));
+		hackathon.setStatus(Status.ACCEPTED);
+		hackathon.setPostedBy(poster);
+		return hackathonRepository.save(hackathon);
+	}
+
+	private Team createTeam(Hackathon hackathon, int maxSize) {
+		User leader = createUser();
+		Team team = new Team();
+		team.setTeamName("Team of " + leader.getEmail());
+		team.setMaxSize(maxSize);
+		team.setCurrentSize(1);
+		team.setHackathon(hackathon);
+		team.setLeader(leader);
+		teamRepository.save(team);
+
+		TeamMember leaderMember = new TeamMember();
+		leaderMember.setTeam(team);
+		leaderMember.setUser(leader);
+		leaderMember.setRole(TeamRole.LEADER);
+		leaderMember.setAssignedRole("Leader");
+		teamMemberRepository.save(leaderMember);
+		return team;
+	}
+
+	// Every requester asks for a different role, since a team takes each role only once
+	private List<Long> createJoinRequests(Team team, int count) {
+		List<Long> requestIds = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			JoinRequest joinRequest = new JoinRequest();
+			joinRequest.setTeam(team);
+			joinRequest.setRequester(createUser());
+			joinRequest.setRequestedRole("Role " + i);
+			joinRequest.setMessage("Let me in");
+			joinRequest.setExpiresAt(LocalDateTime.now().plusDays(1));
+			requestIds.add(joinRequestRepository.save(joinRequest).getId());
+		}
+		return requestIds;
+	}
+
+	private User createUser() {
+		User user = new User();
+		user.setEmail("user" + (userCount++) + "@example.com");
+		user.setPassword("secret");
+		return userRepository.save(user);
+	}
+}